@@ -0,0 +1,50 @@
+package Benchmarks;
+
+import Animals.Animal;
+import Animals.Dog;
+import Olympics.Medal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code Animal.clone}, which deep copies the medals of the animal, for growing medal arrays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CloneBenchmark {
+    @Param({"1", "100", "10000"})
+    private int medalCount; // The number of medals of the cloned animal
+
+    private Animal animal; // The animal to clone
+
+    /**
+     * Creates an animal with the requested number of medals.
+     */
+    @Setup
+    public void setup() {
+        Medal[] medals = new Medal[medalCount];
+        for (int i = 0; i < medalCount; i++) {
+            medals[i] = new Medal("Tournament " + i, 2000 + i % 25, Medal.Type.values()[i % 3]);
+        }
+        animal = new Dog("Dog", Animal.Gender.MALE, 20, 11.0, medals, 4, "Labrador");
+    }
+
+    @Benchmark
+    public Animal cloneAnimal() {
+        return animal.clone();
+    }
+}
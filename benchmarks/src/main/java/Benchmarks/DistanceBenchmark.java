@@ -0,0 +1,55 @@
+package Benchmarks;
+
+import Animals.Animal;
+import Animals.Eagle;
+import Mobility.Point;
+import Olympics.Medal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code Mobile.calcDistance} between an animal and a rotating set of points on the panel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DistanceBenchmark {
+    private static final int POINTS = 1024; // The number of target points, a power of two
+    private Animal animal; // The animal the distance is measured from
+    private Point[] points; // The target points
+    private int index = 0; // The next target point
+
+    /**
+     * Creates the animal and a fixed set of random points on the panel.
+     */
+    @Setup
+    public void setup() {
+        animal = new Eagle("Eagle", Animal.Gender.MALE, 5, 9.5, new Medal[0], 2, 100);
+        animal.setLocation(new Point(300, 200));
+
+        Random random = new Random(42);
+        points = new Point[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = new Point(random.nextInt(700), random.nextInt(500));
+        }
+    }
+
+    @Benchmark
+    public double calcDistance() {
+        index = (index + 1) & (POINTS - 1);
+        return animal.calcDistance(points[index]);
+    }
+}
@@ -0,0 +1,81 @@
+package Benchmarks;
+
+import Animals.Animal;
+import Animals.Eagle;
+import Competitions.ExecutionMode;
+import Competitions.RaceLifecycle;
+import Competitions.SimulatedRaceClock;
+import Graphics.AnimalThread;
+import Olympics.Medal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures a whole race of many participants that move themselves, from starting them in an execution mode
+ * until the last of them has finished. The race runs on a simulated clock, so only the cost of running the
+ * participants is measured. PLATFORM is left out, since a hundred thousand platform threads is what the other
+ * modes avoid. VIRTUAL needs Java 21.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ExecutionModeBenchmark {
+    private static final double NEEDED_DISTANCE = 50; // The distance every participant runs
+
+    @Param({"POOLED", "VIRTUAL"})
+    private String mode; // The execution mode of the participants
+
+    @Param({"10000", "100000"})
+    private int participants; // The number of participants of the race
+
+    private final List<Animal> animals = new ArrayList<>(); // The animals of the next race
+
+    /**
+     * Creates fresh animals for every race, since a race leaves them at its finish.
+     */
+    @Setup(Level.Invocation)
+    public void setup() {
+        if (!ExecutionMode.valueOf(mode).isAvailable()) {
+            throw new IllegalStateException(mode + " is not available on this runtime");
+        }
+        animals.clear();
+        for (int i = 0; i < participants; i++) {
+            Animal eagle = new Eagle("Eagle" + i, Animal.Gender.MALE, 5, 9.5, new Medal[0], 2, 100);
+            eagle.setTrackNumber(1);
+            eagle.setStartPoint(500);
+            animals.add(eagle);
+        }
+    }
+
+    @Benchmark
+    public void runRace() throws InterruptedException {
+        ExecutionMode executionMode = ExecutionMode.valueOf(mode);
+        RaceLifecycle race = RaceLifecycle.begin(new SimulatedRaceClock());
+        AtomicBoolean startFlag = new AtomicBoolean(false);
+        for (Animal animal : animals) {
+            AnimalThread participant = new AnimalThread(animal, NEEDED_DISTANCE, startFlag, new AtomicBoolean(false));
+            executionMode.startParticipant(participant, "Animal-" + animal.getName());
+        }
+        startFlag.set(true);
+        while (race.isRunning(RaceLifecycle.Role.PARTICIPANT)) {
+            Thread.sleep(1);
+        }
+    }
+}
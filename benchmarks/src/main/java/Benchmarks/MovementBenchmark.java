@@ -0,0 +1,147 @@
+package Benchmarks;
+
+import Animals.Alligator;
+import Animals.Animal;
+import Animals.Dog;
+import Animals.Eagle;
+import Animals.Whale;
+import Mobility.Point;
+import Olympics.Medal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single movement step of every animal category, both through {@code move(Point)}
+ * with a freshly built target (the way the race used to step the animals) and through {@code advance()}.
+ * An animal that reaches the end of its track is put back at its start point, so every invocation is a real step.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementBenchmark {
+    private Animal air; // An AirAnimal
+    private Animal water; // A WaterAnimal
+    private Animal terrestrial; // A TerrestrialAnimals
+    private Animal alligator; // An Alligator
+    private Point airStart, waterStart, terrestrialStart, alligatorStart; // The start points of the animals
+
+    /**
+     * Creates one animal of every category and records its start point.
+     */
+    @Setup
+    public void setup() {
+        air = new Eagle("Eagle", Animal.Gender.MALE, 5, 9.5, new Medal[0], 2, 100);
+        air.setTrackNumber(1);
+        air.setStartPoint(500);
+        airStart = new Point(air.getX(), air.getY());
+
+        water = new Whale("Whale", Animal.Gender.FEMALE, 90, 7.5, new Medal[0], -10, "plankton");
+        water.setTrackNumber(1);
+        water.setStartPoint(500);
+        waterStart = new Point(water.getX(), water.getY());
+
+        terrestrial = new Dog("Dog", Animal.Gender.MALE, 20, 11.0, new Medal[0], 4, "Labrador");
+        terrestrial.setStartPoint(500);
+        terrestrialStart = new Point(terrestrial.getX(), terrestrial.getY());
+
+        alligator = new Alligator("Alligator", Animal.Gender.MALE, 200, 6.5, new Medal[0], -10, 4, "Swamp");
+        alligator.setTrackNumber(1);
+        alligator.setStartPoint(500);
+        alligatorStart = new Point(alligator.getX(), alligator.getY());
+    }
+
+    @Benchmark
+    public boolean moveAirAnimal() {
+        return move(air, airStart);
+    }
+
+    @Benchmark
+    public boolean moveWaterAnimal() {
+        return move(water, waterStart);
+    }
+
+    @Benchmark
+    public boolean moveTerrestrialAnimal() {
+        return move(terrestrial, terrestrialStart);
+    }
+
+    @Benchmark
+    public boolean moveAlligator() {
+        return move(alligator, alligatorStart);
+    }
+
+    @Benchmark
+    public boolean advanceAirAnimal() {
+        return advance(air, airStart);
+    }
+
+    @Benchmark
+    public boolean advanceWaterAnimal() {
+        return advance(water, waterStart);
+    }
+
+    @Benchmark
+    public boolean advanceTerrestrialAnimal() {
+        return advance(terrestrial, terrestrialStart);
+    }
+
+    @Benchmark
+    public boolean advanceAlligator() {
+        return advance(alligator, alligatorStart);
+    }
+
+    /**
+     * Moves an animal one speed unit ahead with {@code move(Point)}, restarting it once it stopped.
+     *
+     * @param animal The animal to move.
+     * @param start The start point of the animal.
+     * @return true if the animal moved.
+     */
+    private static boolean move(Animal animal, Point start) {
+        Point next = new Point((int) (animal.getX() + animal.getSpeed()), animal.getY());
+        boolean moved = animal.move(next);
+        if (!moved) {
+            restart(animal, start);
+        }
+        return moved;
+    }
+
+    /**
+     * Moves an animal one speed unit ahead with {@code advance()}, restarting it once it stopped.
+     *
+     * @param animal The animal to move.
+     * @param start The start point of the animal.
+     * @return true if the animal moved.
+     */
+    private static boolean advance(Animal animal, Point start) {
+        boolean moved = animal.advance();
+        if (!moved) {
+            restart(animal, start);
+        }
+        return moved;
+    }
+
+    /**
+     * Puts an animal back at its start point with full energy.
+     *
+     * @param animal The animal to restart.
+     * @param start The start point of the animal.
+     */
+    private static void restart(Animal animal, Point start) {
+        animal.reset();
+        animal.setOrien(Animal.Orientation.EAST);
+        animal.setLocation(start);
+    }
+}
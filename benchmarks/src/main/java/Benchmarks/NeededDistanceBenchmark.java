@@ -0,0 +1,96 @@
+package Benchmarks;
+
+import Animals.Animal;
+import Animals.Dog;
+import Animals.Eagle;
+import Animals.Whale;
+import Competitions.AnimalGroup;
+import Competitions.CompetitionType;
+import Competitions.GroupCategory;
+import Competitions.GroupRegistry;
+import Competitions.RaceEngine;
+import Graphics.AnimalTableModel;
+import Graphics.Tick;
+import Olympics.Medal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the needed distance calculation of the courier race, both through {@code Tick.calculateNeededDistance},
+ * which looks the group up in the table model, and directly through {@code RaceEngine.calculateNeededDistance}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NeededDistanceBenchmark {
+    private static final String[] GROUP_TYPES = {"Air", "Water", "Terrestrial"}; // The type of every group
+    private final List<List<Animal>> groups = new ArrayList<>(); // One courier group of every type
+    private int call = 0; // Selects the group and the animal of the next call
+
+    /**
+     * Creates one courier group of four animals for every group type and registers them in the table model.
+     */
+    @Setup
+    public void setup() {
+        new AnimalTableModel(); // Initializes an empty group registry
+        GroupRegistry registry = AnimalTableModel.getRegistry();
+        for (String groupType : GROUP_TYPES) {
+            AnimalGroup registered = registry.addGroup(groupType + " relay", CompetitionType.COURIER,
+                    GroupCategory.fromLabel(groupType), groups.size() + 1);
+            List<Animal> group = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                switch (groupType) {
+                    case "Air":
+                        group.add(new Eagle("Eagle" + i, Animal.Gender.MALE, 5, 9.5, new Medal[0], 2, 100));
+                        break;
+                    case "Water":
+                        group.add(new Whale("Whale" + i, Animal.Gender.FEMALE, 90, 7.5, new Medal[0], -10, "plankton"));
+                        break;
+                    default:
+                        group.add(new Dog("Dog" + i, Animal.Gender.MALE, 20, 11.0, new Medal[0], 4, "Labrador"));
+                        break;
+                }
+            }
+            for (Animal animal : group) {
+                registry.addAnimal(registered, animal);
+            }
+            groups.add(registered.getAnimals());
+        }
+    }
+
+    @Benchmark
+    public double tickCalculateNeededDistance() {
+        int groupIndex = nextGroup();
+        return Tick.calculateNeededDistance(groupIndex, GROUP_TYPES[groupIndex], call & 3);
+    }
+
+    @Benchmark
+    public double engineCalculateNeededDistance() {
+        int groupIndex = nextGroup();
+        return RaceEngine.calculateNeededDistance(groups.get(groupIndex), GROUP_TYPES[groupIndex], call & 3);
+    }
+
+    /**
+     * Advances to the next call and selects its group.
+     *
+     * @return The index of the group of the call.
+     */
+    private int nextGroup() {
+        call++;
+        return call % GROUP_TYPES.length;
+    }
+}
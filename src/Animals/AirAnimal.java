@@ -12,21 +12,28 @@ import java.util.Random;
  * Extends the Animal class to include attributes specific to air animals.
  */
 public class AirAnimal extends Animal {
+    private static final int TRACK_END = 610; // The X coordinate where the straight track of the animal ends
 
     /**
      * The wingspan of the air animal.
      */
     private double wingspan;
 
+    /**
+     * The random source that picks the track of a newly created air animal.
+     */
+    private static final Random TRACK_RANDOM = new Random();
+
     /**
      * Constructs an AirAnimal object with default values.
      * Initializes wingspan to 0.0 and sets the initial location to (0, 100).
      */
     public AirAnimal(){
         super(); // Call the default constructor of the superclass Animal
+        state.setTrackEnd(slot, TRACK_END);
         this.wingspan = 1.0;
         if (this instanceof AirAnimal) {
-            this.setTrackNumber(new Random().nextInt(5) + 1);
+            this.assignRandomTrack(TRACK_RANDOM);
         }
     }
 
@@ -44,9 +51,10 @@ public class AirAnimal extends Animal {
     public AirAnimal(String inputName, Gender inputGender, double inputWeight, double inputSpeed, Medal[] inputMedals, double inputWingspan) {
         // Call the constructor of the superclass Animal
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, new Point(0, 100));
+        state.setTrackEnd(slot, TRACK_END);
         this.wingspan = inputWingspan;
         if (this instanceof AirAnimal) {
-            this.setTrackNumber(new Random().nextInt(5) + 1);
+            this.assignRandomTrack(TRACK_RANDOM);
         }
     }
 
@@ -57,14 +65,26 @@ public class AirAnimal extends Animal {
      */
     public AirAnimal(AirAnimal other) {
         super(other); // Call the copy constructor of the superclass Animal
+        state.setTrackEnd(slot, TRACK_END);
         // Copy the wingspan
         this.wingspan = other.wingspan;
         // Set the initial position to (0, 100) regardless of the original position
         if (this instanceof AirAnimal) {
-            this.setTrackNumber(new Random().nextInt(5) + 1);
+            this.assignRandomTrack(TRACK_RANDOM);
         }
     }
 
+    /**
+     * Assigns a random track (1 to 5) to the air animal.
+     * Passing a seeded random source makes the track assignment reproducible,
+     * for example in every run of a batch of races.
+     *
+     * @param random The random source to pick the track with.
+     */
+    public void assignRandomTrack(Random random) {
+        this.setTrackNumber(random.nextInt(5) + 1);
+    }
+
     /**
      * Returns the wingspan of the air animal.
      * <p>
@@ -132,18 +152,18 @@ public class AirAnimal extends Animal {
         double newDistance = calcDistance(otherLocation);
 
         // Calculate delta X and Y based on speed and direction.
-        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getLocation().getX()) / newDistance;
-        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getLocation().getY()) / newDistance;
+        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getX()) / newDistance;
+        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getY()) / newDistance;
 
         // Stop moving if the animal has reached the end of the track at x = 610.
-        if (this.getLocation().getX() >= 610 || this.getLocation().getX() + deltaX >= 610) {
-            this.setLocation(new Point(610, this.getLocation().getY())); // Set location at end of track.
+        if (this.getX() >= 610 || this.getX() + deltaX >= 610) {
+            this.setCoordinates(610, this.getY()); // Set location at end of track.
             this.stopMoving(); // Stop the movement.
             return false;
         }
 
         if (this.canMove()) {
-            if (otherLocation == null || (otherLocation.equals(this.getLocation()) && this.getLocation() != null)) {
+            if (otherLocation == null || (otherLocation.getX() == this.getX() && otherLocation.getY() == this.getY())) {
                 return false; // No movement if no target location or already at the target.
             }
 
@@ -152,26 +172,40 @@ public class AirAnimal extends Animal {
             }
 
             // Calculate new point and move the animal.
-            Point newPoint = new Point((int) (this.getLocation().getX() + deltaX), (int) (this.getLocation().getY() + deltaY));
-            this.setLocation(newPoint);
+            this.setCoordinates((int) (this.getX() + deltaX), (int) (this.getY() + deltaY));
 
             // Add the actual distance moved to total distance.
             double actualDistanceMoved = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
             this.addTotalDistance(actualDistanceMoved);
 
             // Deduct the energy cost of the move.
-            this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * Math.sqrt(deltaX * deltaX + deltaY * deltaY))));
+            this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * actualDistanceMoved)));
 
             return true; // Movement was successful.
         }
         return false;
     }
 
+    /**
+     * Advances the animal by its speed towards the east, in place.
+     * Runs on the race state arrays with {@link Mobility.RaceState#advanceStraight(int)}, so the step does not
+     * allocate, with the same result as {@link #move(Point)}.
+     *
+     * @return true if the animal successfully moved, false otherwise.
+     */
+    @Override
+    public boolean advance() {
+        return state.advanceStraight(slot);
+    }
+
     /**
      * Draws the animal on the panel based on its orientation.
      * The method selects an appropriate image and adjusts its position and size according to the animal's current orientation.
      *
      * @param g The Graphics object used for drawing.
+     * @param x the X coordinate to draw the animal at.
+     * @param y the Y coordinate to draw the animal at.
+     * @param orientation the orientation to draw the animal in.
      *
      * Details:
      * - EAST: Draws a wider image to represent movement to the east.
@@ -180,15 +214,15 @@ public class AirAnimal extends Animal {
      * - NORTH: Adjusts the image position and size for northward movement, making it taller.
      */
     @Override
-    public void drawObject (Graphics g){
-        if(this.getOrientation() == Orientation.EAST){// Animal move to east side
-            g.drawImage(this.getImg1(), getLocation().getX(), getLocation().getY()-this.getSize()/10, this.getSize()*2, this.getSize(), this.getPanel());
-        } else if (this.getOrientation() == Orientation.SOUTH) { // Animal move to the south side
-            g.drawImage(this.getImg2(), getLocation().getX() + 30, getLocation().getY()-this.getSize()/10, this.getSize(), this.getSize(), this.getPanel());
-        } else if (this.getOrientation() == Orientation.WEST) { // Animal move to the west side
-            g.drawImage(this.getImg3(), getLocation().getX(), getLocation().getY()-this.getSize()/10, this.getSize()*2, this.getSize(), this.getPanel());
-        } else if (this.getOrientation() == Orientation.NORTH) { // Animal move to the north side
-            g.drawImage(this.getImg4(), getLocation().getX()-this.getSize()/2 +35, getLocation().getY()-this.getSize()/10, this.getSize(), this.getSize()*2 - 15, this.getPanel());
+    public void drawAt(Graphics g, int x, int y, Orientation orientation) {
+        if(orientation == Orientation.EAST){// Animal move to east side
+            drawSprite(g, this.getImg1(), x, y-this.getSize()/10, this.getSize()*2, this.getSize());
+        } else if (orientation == Orientation.SOUTH) { // Animal move to the south side
+            drawSprite(g, this.getImg2(), x + 30, y-this.getSize()/10, this.getSize(), this.getSize());
+        } else if (orientation == Orientation.WEST) { // Animal move to the west side
+            drawSprite(g, this.getImg3(), x, y-this.getSize()/10, this.getSize()*2, this.getSize());
+        } else if (orientation == Orientation.NORTH) { // Animal move to the north side
+            drawSprite(g, this.getImg4(), x-this.getSize()/2 +35, y-this.getSize()/10, this.getSize(), this.getSize()*2 - 15);
         }
     }
 
@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Mobility.Point;
 import Olympics.Medal;
 import java.awt.*;
@@ -12,6 +13,7 @@ import java.util.Arrays;
  * This class uses delegation to implement behaviors of both water and terrestrial animals.
  */
 public class Alligator extends Animal implements WaterAnimals, IReptile, TerrestrialAnimal, ImageObserver {
+    private static final int TRACK_END = 585; // The X coordinate where the straight track of the animal ends
 
     /**
      * Delegate for water animal behavior.
@@ -35,12 +37,12 @@ public class Alligator extends Animal implements WaterAnimals, IReptile, Terrest
      */
     public Alligator() {
         super();
+        state.setTrackEnd(slot, TRACK_END);
         this.waterDelegate = new WaterAnimal();
         this.terrestrialDelegate = new TerrestrialAnimals();
         this.areaOfLiving = "Unknown";
         this.setSound("Roar");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\alligator_EAST.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("alligator", Orientation.EAST));
     }
 
     /**
@@ -57,8 +59,8 @@ public class Alligator extends Animal implements WaterAnimals, IReptile, Terrest
      */
     public Alligator(String inputName, Gender inputGender, double inputWeight, double inputSpeed, Medal[] inputMedals, double inputDiveDepth, int inputNoLegs, String areaOfLiving) {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, new Point(50, 0));
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\alligator_EAST.png");
-        setImg1(img);
+        state.setTrackEnd(slot, TRACK_END);
+        setImg1(SpriteCache.getSprite("alligator", Orientation.EAST));
         this.waterDelegate = new WaterAnimal(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputDiveDepth);
         this.terrestrialDelegate = new TerrestrialAnimals(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputNoLegs);
         this.areaOfLiving = areaOfLiving;
@@ -73,8 +75,7 @@ public class Alligator extends Animal implements WaterAnimals, IReptile, Terrest
      */
     public Alligator(Alligator other) {
         super(other);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\alligator_EAST.png");
-        setImg1(img);
+        state.setTrackEnd(slot, TRACK_END);
         this.waterDelegate = new WaterAnimal(other.waterDelegate);
         this.terrestrialDelegate = new TerrestrialAnimals(other.terrestrialDelegate);
         this.areaOfLiving = other.areaOfLiving;
@@ -338,20 +339,20 @@ public class Alligator extends Animal implements WaterAnimals, IReptile, Terrest
         // Calculate the distance to the new location
         double newDistance = calcDistance(otherLocation);
 
-        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getLocation().getX()) / newDistance;
-        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getLocation().getY()) / newDistance;
+        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getX()) / newDistance;
+        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getY()) / newDistance;
 
         // Stop moving logic for animal reaching the end of the track.
-        if (this.getLocation().getX() >= 585 || this.getLocation().getX() + deltaX >= 585) {
+        if (this.getX() >= 585 || this.getX() + deltaX >= 585) {
             // reached the end of the track
-            this.setLocation(new Point(585, this.getLocation().getY()));
+            this.setCoordinates(585, this.getY());
             this.stopMoving();
             return false;
         }
 
         if (this.canMove()) {
             // Check if the new location is null or the same as the current location
-            if (otherLocation == null || (otherLocation.equals(this.getLocation()) && this.getLocation() != null)) {
+            if (otherLocation == null || (otherLocation.getX() == this.getX() && otherLocation.getY() == this.getY())) {
                 return false;
             }
 
@@ -360,29 +361,40 @@ public class Alligator extends Animal implements WaterAnimals, IReptile, Terrest
                 return false; // Return false if not enough energy for the move
             }
 
-            Point newPoint = new Point((int) (this.getLocation().getX() + deltaX), (int) (this.getLocation().getY() + deltaY));
-
-            // Update the animal's location
-            this.setLocation(newPoint);
+            // Update the animal's location in place
+            this.setCoordinates((int) (this.getX() + deltaX), (int) (this.getY() + deltaY));
             // Update the total distance moved
-            this.addTotalDistance(Math.sqrt(deltaX * deltaX + deltaY * deltaY));
-            this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * Math.sqrt(deltaX * deltaX + deltaY * deltaY))));
+            double moved = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+            this.addTotalDistance(moved);
+            this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * moved)));
 
             return true; // Return true to indicate successful movement
         }
         return false;
     }
 
+    /**
+     * Advances the animal by its speed towards the east, in place.
+     * The alligator swims its straight track like a water animal, so it is stepped on the race state arrays
+     * with {@link Mobility.RaceState#advanceStraight(int)}, with the same result as {@link #move(Point)}.
+     *
+     * @return true if the animal successfully moved, false otherwise.
+     */
+    @Override
+    public boolean advance() {
+        return state.advanceStraight(slot);
+    }
+
     @Override
-    public void drawObject (Graphics g){
-        if(this.getOrientation() == Orientation.EAST){ // Animal move to east side
-            g.drawImage(this.getImg1(), getLocation().getX(), getLocation().getY()-this.getSize()/10, this.getSize()*2, this.getSize(), this.getPanel());
-        } else if (this.getOrientation()  == Orientation.SOUTH) { // Animal move to the south side
-            g.drawImage(this.getImg2(), getLocation().getX() + 30, getLocation().getY()-this.getSize()/10, this.getSize(), this.getSize(), this.getPanel());
-        } else if (this.getOrientation()  == Orientation.WEST) { // Animal move to the west side
-            g.drawImage(this.getImg3(), getLocation().getX(), getLocation().getY()-this.getSize()/10, this.getSize()*2, this.getSize(), this.getPanel());
-        } else if (this.getOrientation()  == Orientation.NORTH) { // Animal move to the north side
-            g.drawImage(this.getImg4(), getLocation().getX()-this.getSize()/2 +35, getLocation().getY()-this.getSize()/10, this.getSize(), this.getSize()*2 - 15, this.getPanel());
+    public void drawAt(Graphics g, int x, int y, Orientation orientation) {
+        if(orientation == Orientation.EAST){ // Animal move to east side
+            drawSprite(g, this.getImg1(), x, y-this.getSize()/10, this.getSize()*2, this.getSize());
+        } else if (orientation  == Orientation.SOUTH) { // Animal move to the south side
+            drawSprite(g, this.getImg2(), x + 30, y-this.getSize()/10, this.getSize(), this.getSize());
+        } else if (orientation  == Orientation.WEST) { // Animal move to the west side
+            drawSprite(g, this.getImg3(), x, y-this.getSize()/10, this.getSize()*2, this.getSize());
+        } else if (orientation  == Orientation.NORTH) { // Animal move to the north side
+            drawSprite(g, this.getImg4(), x-this.getSize()/2 +35, y-this.getSize()/10, this.getSize(), this.getSize()*2 - 15);
         }
     }
 
@@ -4,6 +4,7 @@ import Graphics.*;
 import Mobility.ILocatable;
 import Mobility.Mobile;
 import Mobility.Point;
+import Mobility.RaceState;
 import Olympics.Medal;
 import javax.imageio.ImageIO;
 import java.awt.*;
@@ -41,13 +42,9 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
     private static int idCounter = 0; // Static counter to assign unique IDs
     private final int id; // Unique ID for each animal
     private int trackNumber; // indicating its lane in the competition.
-    private boolean canMove = true; // Flag indicating whether the animal is capable of moving.
     protected BufferedImage img = null;
     private final int size = 65; // The size of the animal
     private Orientation orien; // The current orientation of the animal
-    private int energy; // The current energy that the animal has
-    private int maxEnergy = MAX_ENERGY;
-    private int energyPerMeter; // The amount of energy consumed by the animal per meter moved
     private CompetitionPanel pan; // The panel on which the animal will be drawn
     private BufferedImage img1, img2, img3, img4; //  Buffered images representing different views of the animal
     private IDrawable iDrawable; // An instance of an object implementing the IDrawable interface.
@@ -56,9 +53,9 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
     private String name;    // The private name of the animal.
     private Gender gender;  // The gender of the animal.
     private double weight;  // The weight of the animal.
-    private double speed;   // The speed of the animal.
     private Medal[] medals;  // All the medals won by the animal.
     private String sound; // The sound the animal make.
+    // The energy, maximum energy, energy per meter, speed and move flag are kept in the RaceState of the Mobile
 
 
     //_________________________________________________Constructors___________________________________________________
@@ -70,14 +67,15 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      */
     public Animal() {
         super(); // Call the default constructor of the superclass Mobile
-        this.energy = 10000;
-        this.energyPerMeter = 1; // Default value for energy consumption per meter
+        state.setMaxEnergy(slot, MAX_ENERGY);
+        state.setEnergy(slot, 10000);
+        state.setEnergyPerMeter(slot, 1); // Default value for energy consumption per meter
         this.orien = Orientation.EAST; // Default orientation
         this.id = idCounter++;
         this.name = "";
         this.gender = Gender.MALE;
         this.weight = 0.0;
-        this.speed = 0.0;
+        state.setSpeed(slot, 0.0);
         this.medals = new Medal[0];
         this.sound = "";
         this.pan = null;
@@ -104,14 +102,15 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      */
     public Animal(String name, Gender gender, double weight, double speed, Medal[] medals, Point location) {
         super(location); // Call the constructor of the superclass Mobile
-        this.energy = 10000;
-        this.energyPerMeter = 1; // Default value for energy consumption per meter
+        state.setMaxEnergy(slot, MAX_ENERGY);
+        state.setEnergy(slot, 10000);
+        state.setEnergyPerMeter(slot, 1); // Default value for energy consumption per meter
         this.orien = Orientation.EAST; // Default orientation
         this.id = idCounter++;
         this.name = name;
         this.gender = gender;
         this.weight = weight;
-        this.speed = speed;
+        state.setSpeed(slot, speed);
         this.sound = "";
 
         // Deep copy of medals array
@@ -138,14 +137,15 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      */
     public Animal(Animal other) {
         super(other); // Call the copy constructor of the superclass Mobile
-        this.energy = other.energy;
-        this.energyPerMeter = other.energyPerMeter;
+        state.setMaxEnergy(slot, MAX_ENERGY);
+        state.setEnergy(slot, other.getEnergy());
+        state.setEnergyPerMeter(slot, other.getEnergyPerMeter());
         this.orien = Orientation.EAST; // Default orientation
         this.id = idCounter++;
         this.name = other.name;
         this.gender = other.gender;
         this.weight = other.weight;
-        this.speed = other.speed;
+        state.setSpeed(slot, other.getSpeed());
         this.sound = other.sound;
 
         // Deep copy of medals array
@@ -213,7 +213,7 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * @return The speed of the animal.
      */
     public double getSpeed() {
-        return speed;
+        return state.getSpeed(slot);
     }
 
     /**
@@ -247,21 +247,21 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      *
      * @return the current energy of the animal.
      */
-    public int getEnergy() { return energy; }
+    public int getEnergy() { return state.getEnergy(slot); }
 
     /**
      * Gets the maximum energy of the animal.
      *
      * @return the maximum energy of the animal.
      */
-    public int getMaxEnergy() { return maxEnergy; }
+    public int getMaxEnergy() { return state.getMaxEnergy(slot); }
 
     /**
      * Gets the amount of energy consumed by the animal per meter moved.
      *
      * @return the amount of energy consumed by the animal per meter moved.
      */
-    public int getEnergyPerMeter() { return energyPerMeter; }
+    public int getEnergyPerMeter() { return state.getEnergyPerMeter(slot); }
 
     /**
      * Gets the panel on which the animal will be drawn.
@@ -308,6 +308,16 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
         return trackNumber;
     }
 
+    /**
+     * Returns the unique ID of the animal.
+     * Every animal gets a different ID when it is constructed or copied, a clone keeps the ID of the original.
+     *
+     * @return the unique ID of the animal
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * Returns the name of the animal.
      *
@@ -323,7 +333,7 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * @return true if the animal can move, false otherwise.
      */
     public boolean canMove() {
-        return this.canMove;
+        return state.canMove(slot);
     }
 
     /**
@@ -357,8 +367,8 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
 
     public void reset() {
         this.setTotalDistance(0.0);
-        this.energy = this.maxEnergy; // Reset energy to maxEnergy or any initial value
-        this.canMove = true;
+        state.setEnergy(slot, state.getMaxEnergy(slot)); // Reset energy to maxEnergy or any initial value
+        state.setCanMove(slot, true);
     }
 
     //_______________________________________________________Setters___________________________________________________
@@ -418,7 +428,7 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
             System.out.println("Error: Speed must be greater than 0");
             return false;
         }
-        this.speed = speed;
+        state.setSpeed(slot, speed);
         return true;
     }
 
@@ -460,8 +470,8 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * @return {@code true} if the energy was successfully set; {@code false} if the energy was out of range.
      */
     public boolean setEnergy(int energy) {
-        if (energy >= 0 && energy <= maxEnergy) {
-            this.energy = energy;
+        if (energy >= 0 && energy <= state.getMaxEnergy(slot)) {
+            state.setEnergy(slot, energy);
             return true;
         }
         return false;
@@ -585,13 +595,13 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
         Animal other = (Animal) obj;
         return size == other.size &&
                 orien == other.orien &&
-                energy == other.energy &&
-                maxEnergy == other.maxEnergy &&
-                energyPerMeter == other.energyPerMeter &&
+                getEnergy() == other.getEnergy() &&
+                getMaxEnergy() == other.getMaxEnergy() &&
+                getEnergyPerMeter() == other.getEnergyPerMeter() &&
                 Objects.equals(name, other.name) &&
                 gender == other.gender &&
                 Double.compare(other.weight, weight) == 0 &&
-                Double.compare(other.speed, speed) == 0 &&
+                Double.compare(other.getSpeed(), getSpeed()) == 0 &&
                 Arrays.equals(medals, other.medals) &&
                 Objects.equals(pan, other.pan) &&
                 Objects.equals(img1, other.img1) &&
@@ -615,13 +625,13 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
         return "Animal{" +
                 "size=" + size +
                 ", orientation=" + orien +
-                ", energy=" + energy +
-                ", maxEnergy=" + maxEnergy +
-                ", energyPerMeter=" + energyPerMeter +
+                ", energy=" + getEnergy() +
+                ", maxEnergy=" + getMaxEnergy() +
+                ", energyPerMeter=" + getEnergyPerMeter() +
                 ", name='" + name + '\'' +
                 ", gender=" + gender +
                 ", weight=" + weight +
-                ", speed=" + speed +
+                ", speed=" + getSpeed() +
                 ", medals=" + Arrays.toString(medals) +
                 ", position=" + getLocation().toString() +
                 '}';
@@ -647,7 +657,7 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * <ul>
      *   <li>Calls `super.clone()` to create a shallow copy of the object.</li>
      *   <li>Deep copies the `medals` array by creating new `Medal` objects for each element.</li>
-     *   <li>Deep copies the `location` object by creating a new `Point` with the same coordinates.</li>
+     *   <li>Copies the race state (location, distance, energy, speed) into a store of its own.</li>
      *   <li>Copies references for immutable objects like `BufferedImage` and `CompetitionPanel`.</li>
      * </ul>
      *
@@ -659,13 +669,13 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
     public Animal clone() {
         try {
             Animal cloned = (Animal) super.clone(); // Call Object's clone method for shallow copy
+            cloned.bindTo(new RaceState(1)); // The clone gets its own copy of the race state
 
             // Perform deep copy for fields that require it
             cloned.medals = new Medal[this.medals.length];
             for (int i = 0; i < this.medals.length; i++) {
                 cloned.medals[i] = new Medal(this.medals[i]);
             }
-            cloned.setLocation(new Point(this.getLocation().getX(), this.getLocation().getY()));
 
             // Ensure other fields are copied or initialized as needed
             cloned.img1 = this.img1; // Assuming BufferedImage is immutable or deep copy is not needed
@@ -698,9 +708,9 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * @return true if the animal successfully moves to the new location, false otherwise.
      */
     public boolean move(Point otherLocation) {
-        if (this.canMove) {
+        if (this.canMove()) {
             // Check if the new location is null or the same as the current location
-            if (otherLocation == null || (otherLocation.equals(this.getLocation()) && this.getLocation() != null)) {
+            if (otherLocation == null || (otherLocation.getX() == this.getX() && otherLocation.getY() == this.getY())) {
                 return false;
             }
 
@@ -708,20 +718,19 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
             double newDistance = calcDistance(otherLocation);
 
             // Check if there is enough energy to move to the new location
-            if (this.energy == 0 || this.energy - (this.energyPerMeter * newDistance) <= 0) {
+            if (this.getEnergy() == 0 || this.getEnergy() - (this.getEnergyPerMeter() * newDistance) <= 0) {
                 return false; // Return false if not enough energy for the move
             }
 
 
-            double deltaX = this.speed * (otherLocation.getX() - this.getLocation().getX()) / newDistance;
-            double deltaY = this.speed * (otherLocation.getY() - this.getLocation().getY()) / newDistance;
-            Point newPoint = new Point((int) (this.getLocation().getX() + deltaX), (int) (this.getLocation().getY() + deltaY));
-
-            // Update the animal's location
-            this.setLocation(newPoint);
+            double deltaX = this.getSpeed() * (otherLocation.getX() - this.getX()) / newDistance;
+            double deltaY = this.getSpeed() * (otherLocation.getY() - this.getY()) / newDistance;
+            // Update the animal's location in place
+            this.setCoordinates((int) (this.getX() + deltaX), (int) (this.getY() + deltaY));
             // Update the total distance moved
-            this.addTotalDistance(Math.sqrt(deltaX * deltaX + deltaY * deltaY));
-            this.energy -= this.energyPerMeter * Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+            double moved = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+            this.addTotalDistance(moved);
+            state.setEnergy(slot, (int) (this.getEnergy() - this.getEnergyPerMeter() * moved));
 
             return true; // Return true to indicate successful movement
         }
@@ -729,35 +738,113 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
     }
 
     /**
-     * Draws the image of the animal on the specified Graphics context based on its orientation.
+     * Advances the animal by its speed towards the east, in place.
      *
-     * This method overrides the `drawObject` method from the `IDrawable` interface to provide
-     * custom drawing behavior for the animal depending on its current orientation. The animal's
-     * image is drawn at a specific position on the Graphics context, adjusted for orientation.
+     * This gives the same result as calling `move` with the point one speed unit ahead on the X axis,
+     * but it does not create any Point.
+     *
+     * @return true if the animal successfully moved, false otherwise.
+     */
+    public boolean advance() {
+        if (!this.canMove()) {
+            return false;
+        }
+        int x = state.getX(slot);
+        int dx = (int) (x + this.getSpeed()) - x;
+        if (dx == 0) {
+            return false; // Already at the target location
+        }
+
+        double newDistance = Math.abs(dx);
+        if (this.getEnergy() == 0 || this.getEnergy() - (this.getEnergyPerMeter() * newDistance) <= 0) {
+            return false; // Return false if not enough energy for the move
+        }
+
+        double deltaX = this.getSpeed() * dx / newDistance;
+        this.setCoordinates((int) (x + deltaX), state.getY(slot));
+        double moved = Math.abs(deltaX); // Equal to the length of the step, which only has an X component
+        this.addTotalDistance(moved);
+        state.setEnergy(slot, (int) (this.getEnergy() - this.getEnergyPerMeter() * moved));
+        return true;
+    }
+
+    /**
+     * Draws the image of the animal on the specified Graphics context at its current location and orientation.
+     *
+     * @param g the Graphics context used for drawing. This parameter cannot be null.
+     */
+    @Override
+    public void drawObject(Graphics g) {
+        drawAt(g, getX(), getY(), orien);
+    }
+
+    /**
+     * Draws the image of the animal at the specified location and orientation, which may differ from the
+     * current ones, for example when a renderer paints the animal from a {@link Competitions.RaceSnapshot}.
+     * Subclasses override this method to provide custom drawing behavior depending on the orientation.
      *
      * The image is drawn with different sizes and positions depending on the animal's direction:
-     * - **East**: The image `img1` is drawn at the animal's current position with double width and normal height.
-     * - **South**: The image `img2` is drawn at the animal's current position with normal width and height.
-     * - **West**: The image `img3` is drawn at the animal's current position with double width and normal height.
-     * - **North**: The image `img4` is drawn at the animal's current position with normal width and double height.
+     * - **East**: The image `img1` is drawn at the given position with double width and normal height.
+     * - **South**: The image `img2` is drawn at the given position with normal width and height.
+     * - **West**: The image `img3` is drawn at the given position with double width and normal height.
+     * - **North**: The image `img4` is drawn at the given position with normal width and double height.
      *
      * The drawing positions are adjusted with a small offset to ensure proper alignment.
      *
      * @param g the Graphics context used for drawing. This parameter cannot be null.
-     */
-    @Override
-    public void drawObject (Graphics g){
-        if(orien == Orientation.EAST){// Animal move to east side
-            g.drawImage(img1, getLocation().getX(), getLocation().getY()-size/10, size*2, size, pan);
-        } else if (orien == Orientation.SOUTH) { // Animal move to the south side
-            g.drawImage(img2, getLocation().getX() + 30, getLocation().getY()-size/10, size, size, pan);
-        } else if (orien == Orientation.WEST) { // Animal move to the west side
-            g.drawImage(img3, getLocation().getX(), getLocation().getY()-size/10, size*2, size, pan);
-        } else if (orien == Orientation.NORTH) { // Animal move to the north side
-            g.drawImage(img4, getLocation().getX()-size/2 +35, getLocation().getY()-size/10, size, size*2 - 15, pan);
+     * @param x the X coordinate to draw the animal at.
+     * @param y the Y coordinate to draw the animal at.
+     * @param orientation the orientation to draw the animal in.
+     */
+    public void drawAt(Graphics g, int x, int y, Orientation orientation) {
+        if(orientation == Orientation.EAST){// Animal move to east side
+            drawSprite(g, img1, x, y-size/10, size*2, size);
+        } else if (orientation == Orientation.SOUTH) { // Animal move to the south side
+            drawSprite(g, img2, x + 30, y-size/10, size, size);
+        } else if (orientation == Orientation.WEST) { // Animal move to the west side
+            drawSprite(g, img3, x, y-size/10, size*2, size);
+        } else if (orientation == Orientation.NORTH) { // Animal move to the north side
+            drawSprite(g, img4, x-size/2 +35, y-size/10, size, size*2 - 15);
         }
     }
 
+    /**
+     * Draws one of the images of the animal in the specified size.
+     * The image is scaled once into the {@link SpriteAtlas}, so every paint is an unscaled copy instead of a rescale.
+     *
+     * @param g the Graphics context used for drawing.
+     * @param image the image to draw, nothing is drawn if it is {@code null}.
+     * @param x the X coordinate of the top left corner.
+     * @param y the Y coordinate of the top left corner.
+     * @param width the width to draw the image in.
+     * @param height the height to draw the image in.
+     */
+    protected void drawSprite(Graphics g, BufferedImage image, int x, int y, int width, int height) {
+        SpriteAtlas.draw(g, image, x, y, width, height);
+    }
+
+    /**
+     * Calculates the area that {@link #drawObject(Graphics)} paints at the current location of the animal.
+     * The area covers the image of every orientation, so it stays correct when the animal turns.
+     *
+     * @return the bounds of the painted area in panel coordinates.
+     */
+    public Rectangle getPaintBounds() {
+        return getPaintBounds(getX(), getY());
+    }
+
+    /**
+     * Calculates the area that {@link #drawAt(Graphics, int, int, Orientation)} paints at the specified location.
+     *
+     * @param x the X coordinate the animal is drawn at.
+     * @param y the Y coordinate the animal is drawn at.
+     * @return the bounds of the painted area in panel coordinates.
+     */
+    public Rectangle getPaintBounds(int x, int y) {
+        // The west image of the terrestrial animals is the highest, the north image is the lowest
+        return new Rectangle(x, y - size / 10 - 20, size * 2, size * 2 + 5);
+    }
+
     /**
      * Attempts to increase the animal's energy by a specified amount.
      * The energy added is capped at the animal's maximum energy limit.
@@ -809,7 +896,7 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * This method sets the animal's ability to move to false.
      */
     public void stopMoving() {
-        this.canMove = false;
+        state.setCanMove(slot, false);
     }
 
     /**
@@ -817,7 +904,7 @@ public abstract class Animal extends Mobile implements IAnimal, Cloneable, ILoca
      * This method sets the animal's ability to move to true.
      */
     public void continueMoving() {
-        this.canMove = true;
+        state.setCanMove(slot, true);
     }
 
     /**
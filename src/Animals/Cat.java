@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Olympics.Medal;
 
 import java.awt.*;
@@ -19,14 +20,10 @@ public class Cat extends TerrestrialAnimals {
      */
     public Cat() {
         super(); // Call the default constructor of the superclass TerrestrialAnimals
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_EAST.png");
-        setImg1(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_SOUTH.png");
-        setImg2(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_WEST.png");
-        setImg3(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_NORTH.png");
-        setImg4(img);
+        setImg1(SpriteCache.getSprite("cat", Orientation.EAST));
+        setImg2(SpriteCache.getSprite("cat", Orientation.SOUTH));
+        setImg3(SpriteCache.getSprite("cat", Orientation.WEST));
+        setImg4(SpriteCache.getSprite("cat", Orientation.NORTH));
         this.castrated = false;
         this.setSound("Meow");
     }
@@ -44,14 +41,10 @@ public class Cat extends TerrestrialAnimals {
      */
     public Cat(String inputName, Gender inputGender, double inputWeight, double inputSpeed, Medal[] inputMedals, int inputNoLegs, boolean inputCastrated) {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputNoLegs); // Call the constructor of the superclass TerrestrialAnimals
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_EAST.png");
-        setImg1(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_SOUTH.png");
-        setImg2(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_WEST.png");
-        setImg3(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_NORTH.png");
-        setImg4(img);
+        setImg1(SpriteCache.getSprite("cat", Orientation.EAST));
+        setImg2(SpriteCache.getSprite("cat", Orientation.SOUTH));
+        setImg3(SpriteCache.getSprite("cat", Orientation.WEST));
+        setImg4(SpriteCache.getSprite("cat", Orientation.NORTH));
         this.castrated = inputCastrated;
         this.setSound("Meow");
     }
@@ -63,14 +56,6 @@ public class Cat extends TerrestrialAnimals {
      */
     public Cat(Cat other) {
         super(other); // Call the copy constructor of the superclass TerrestrialAnimals
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_EAST.png");
-        setImg1(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_SOUTH.png");
-        setImg2(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_WEST.png");
-        setImg3(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\cat_NORTH.png");
-        setImg4(img);
         this.castrated = other.castrated;
         this.setSound("Meow");
     }
@@ -149,21 +134,24 @@ public class Cat extends TerrestrialAnimals {
      * Renders the animal on the screen based on its current orientation and position.
      *
      * @param g The graphics context used for drawing.
+     * @param x the X coordinate to draw the animal at.
+     * @param y the Y coordinate to draw the animal at.
+     * @param orientation the orientation to draw the animal in.
      */
     @Override
-    public void drawObject(Graphics g) {
-        switch (this.getOrientation()) {
+    public void drawAt(Graphics g, int x, int y, Orientation orientation) {
+        switch (orientation) {
             case EAST:
-                g.drawImage(this.getImg1(), getLocation().getX(), getLocation().getY() - this.getSize() / 10, this.getSize() * 2, this.getSize(), this.getPanel());
+                drawSprite(g, this.getImg1(), x, y - this.getSize() / 10, this.getSize() * 2, this.getSize());
                 break;
             case SOUTH:
-                g.drawImage(this.getImg2(), getLocation().getX() + 45, getLocation().getY() - this.getSize() / 10, this.getSize(), this.getSize(), this.getPanel());
+                drawSprite(g, this.getImg2(), x + 45, y - this.getSize() / 10, this.getSize(), this.getSize());
                 break;
             case WEST:
-                g.drawImage(this.getImg3(), getLocation().getX(), getLocation().getY() - this.getSize() / 10 - 20, this.getSize() * 2, this.getSize(), this.getPanel());
+                drawSprite(g, this.getImg3(), x, y - this.getSize() / 10 - 20, this.getSize() * 2, this.getSize());
                 break;
             case NORTH:
-                g.drawImage(this.getImg4(), getLocation().getX() - this.getSize() / 2 + 35, getLocation().getY() - this.getSize() / 10, this.getSize(), this.getSize() * 2 - 15, this.getPanel());
+                drawSprite(g, this.getImg4(), x - this.getSize() / 2 + 35, y - this.getSize() / 10, this.getSize(), this.getSize() * 2 - 15);
                 break;
         }
     }
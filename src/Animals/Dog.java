@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Olympics.Medal;
 import java.util.Arrays;
 
@@ -19,14 +20,10 @@ public class Dog extends TerrestrialAnimals {
         super();
         this.breed = "Labrador retriever";
         this.setSound("Woof Woof");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_EAST.png");
-        setImg1(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_SOUTH.png");
-        setImg2(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_WEST.png");
-        setImg3(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_NORTH.png");
-        setImg4(img);
+        setImg1(SpriteCache.getSprite("dog", Orientation.EAST));
+        setImg2(SpriteCache.getSprite("dog", Orientation.SOUTH));
+        setImg3(SpriteCache.getSprite("dog", Orientation.WEST));
+        setImg4(SpriteCache.getSprite("dog", Orientation.NORTH));
     }
 
     /**
@@ -44,14 +41,10 @@ public class Dog extends TerrestrialAnimals {
      */
     public Dog(String inputName, Gender inputGender, double inputWeight, double inputSpeed, Medal[] inputMedals, int inputNoLegs, String inputBreed) {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputNoLegs); // Call the constructor of the superclass TerrestrialAnimals
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_EAST.png");
-        setImg1(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_SOUTH.png");
-        setImg2(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_WEST.png");
-        setImg3(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_NORTH.png");
-        setImg4(img);
+        setImg1(SpriteCache.getSprite("dog", Orientation.EAST));
+        setImg2(SpriteCache.getSprite("dog", Orientation.SOUTH));
+        setImg3(SpriteCache.getSprite("dog", Orientation.WEST));
+        setImg4(SpriteCache.getSprite("dog", Orientation.NORTH));
         this.breed = inputBreed;
         this.setSound("Woof Woof");
     }
@@ -63,14 +56,6 @@ public class Dog extends TerrestrialAnimals {
      */
     public Dog(Dog other) {
         super(other); // Call the copy constructor of the superclass TerrestrialAnimals
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_EAST.png");
-        setImg1(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_SOUTH.png");
-        setImg2(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_WEST.png");
-        setImg3(img);
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dog_NORTH.png");
-        setImg4(img);
         this.breed = other.breed;
         this.setSound("Woof Woof");
     }
@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Olympics.Medal;
 
 /**
@@ -25,8 +26,7 @@ public class Dolphin extends WaterAnimal {
         super(); // Call the default constructor of the superclass WaterAnimal
         this.waterType = WaterType.Sea;
         this.setSound("Click-Click");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dolphin_EAST.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("dolphin", Orientation.EAST));
     }
 
     /**
@@ -45,8 +45,7 @@ public class Dolphin extends WaterAnimal {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputDiveDepth); // Call the constructor of the superclass WaterAnimal
         this.waterType = inputWaterType;
         this.setSound("Click-Click");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dolphin_EAST.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("dolphin", Orientation.EAST));
     }
 
     /**
@@ -58,8 +57,6 @@ public class Dolphin extends WaterAnimal {
         super(other); // Call the copy constructor of the superclass WaterAnimal
         this.waterType = other.waterType;
         this.setSound("Click-Click");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\dolphin_EAST.png");
-        setImg1(img);
     }
 
     /**
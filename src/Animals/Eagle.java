@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Olympics.Medal;
 
 /**
@@ -20,8 +21,7 @@ public class Eagle extends AirAnimal {
         super(); // Call the default constructor of the superclass AirAnimal
         this.altitudeOfFlight = 0.0;
         this.setSound("Clack-wack-chack");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\eagle_EAST.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("eagle", Orientation.EAST));
     }
 
     /**
@@ -40,8 +40,7 @@ public class Eagle extends AirAnimal {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputWingspan); // Call the constructor of the superclass AirAnimal
         this.altitudeOfFlight = inputAltitudeOfFlight;
         this.setSound("Clack-wack-chack");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\eagle_EAST.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("eagle", Orientation.EAST));
     }
 
     /**
@@ -53,8 +52,6 @@ public class Eagle extends AirAnimal {
         super(other); // Call the copy constructor of the superclass AirAnimal
         this.altitudeOfFlight = other.altitudeOfFlight;
         this.setSound("Clack-wack-chack");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\eagleFinal.png");
-        setImg1(img);
     }
 
     /**
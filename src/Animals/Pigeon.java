@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Olympics.Medal;
 
 /**
@@ -18,8 +19,7 @@ public class Pigeon extends AirAnimal {
         super(); // Call the default constructor of the superclass AirAnimal
         this.family = "Unknown";
         this.setSound("Arr-rar-rar-rar-raah");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\pigeonFinal.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("pigeon", Orientation.EAST));
     }
 
     /**
@@ -38,8 +38,7 @@ public class Pigeon extends AirAnimal {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputWingspan); // Call the constructor of the superclass AirAnimal
         this.family = inputFamily;
         this.setSound("Arr-rar-rar-rar-raah");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\pigeonFinal.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("pigeon", Orientation.EAST));
     }
 
     /**
@@ -51,8 +50,6 @@ public class Pigeon extends AirAnimal {
         super(other); // Call the copy constructor of the superclass AirAnimal
         this.family = other.family;
         this.setSound("Arr-rar-rar-rar-raah");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\pigeonFinal.png");
-        setImg1(img);
     }
 
     /**
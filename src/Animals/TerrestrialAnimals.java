@@ -122,11 +122,11 @@ public class TerrestrialAnimals extends Animal implements TerrestrialAnimal {
         }
 
         if (this.canMove()) {
-            int x = this.getLocation().getX();
-            int y = this.getLocation().getY();
+            int x = this.getX();
+            int y = this.getY();
 
             // Validate the new location
-            if (otherLocation == null || (otherLocation.equals(this.getLocation()) && this.getLocation() != null)) {
+            if (otherLocation == null || (otherLocation.getX() == this.getX() && otherLocation.getY() == this.getY())) {
                 return false;
             }
 
@@ -157,15 +157,13 @@ public class TerrestrialAnimals extends Animal implements TerrestrialAnimal {
             }
 
             if(x + (int) deltaX >= 0 && y + (int) deltaY >= 0){
-                // Apply the calculated deltas to get the new position
-                Point newPoint = new Point(x + (int) deltaX, y + (int) deltaY);
-
-                // Update the animal's position
-                this.setLocation(newPoint);
+                // Apply the calculated deltas to the position in place
+                this.setCoordinates(x + (int) deltaX, y + (int) deltaY);
                 // Update the total distance moved
-                this.addTotalDistance(Math.sqrt(deltaX * deltaX + deltaY * deltaY));
+                double moved = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+                this.addTotalDistance(moved);
                 // Reduce energy based on movement
-                this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * Math.sqrt(deltaX * deltaX + deltaY * deltaY))));
+                this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * moved)));
 
                 return true;
             } else {
@@ -176,25 +174,82 @@ public class TerrestrialAnimals extends Animal implements TerrestrialAnimal {
         return false;
     }
 
+    /**
+     * Advances the animal by its speed along its track, in place.
+     * This gives the same result as calling {@link #move(Point)} with the point one speed unit ahead on the X axis,
+     * but it does not create any Point.
+     *
+     * @return true if the move is successful, false otherwise.
+     */
+    @Override
+    public boolean advance() {
+        int x = state.getX(slot);
+        int y = state.getY(slot);
+        int dx = (int) (x + this.getSpeed()) - x;
+        double newDistance = Math.abs(dx);
+
+        // Adjust orientation and check boundaries before moving
+        if (!fitOrien(x, y, this.getSpeed() * dx / newDistance, 0)) {
+            return false;
+        }
+
+        if (!this.canMove() || dx == 0) {
+            return false; // Not allowed to move, or already at the target location
+        }
+        if (this.getEnergy() == 0 || this.getEnergy() - (this.getEnergyPerMeter() * newDistance) <= 0) {
+            return false;
+        }
+
+        // The animal moves along a single axis, so the length of the step is the speed itself
+        double step = this.getSpeed();
+        int deltaX = 0, deltaY = 0;
+        switch (this.getOrientation()) {
+            case EAST:
+                deltaX = (int) step;
+                break;
+            case WEST:
+                deltaX = (int) -step;
+                break;
+            case NORTH:
+                deltaY = (int) -step;
+                break;
+            case SOUTH:
+                deltaY = (int) step;
+                break;
+        }
+
+        if (x + deltaX >= 0 && y + deltaY >= 0) {
+            this.setCoordinates(x + deltaX, y + deltaY);
+            double moved = Math.abs(step); // Equal to the length of the step vector
+            this.addTotalDistance(moved);
+            this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * moved)));
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Renders the animal on the screen based on its current orientation and position.
      *
      * @param g The graphics context used for drawing.
+     * @param x the X coordinate to draw the animal at.
+     * @param y the Y coordinate to draw the animal at.
+     * @param orientation the orientation to draw the animal in.
      */
     @Override
-    public void drawObject(Graphics g) {
-        switch (this.getOrientation()) {
+    public void drawAt(Graphics g, int x, int y, Orientation orientation) {
+        switch (orientation) {
             case EAST:
-                g.drawImage(this.getImg1(), getLocation().getX(), getLocation().getY() - this.getSize() / 10, this.getSize() * 2, this.getSize(), this.getPanel());
+                drawSprite(g, this.getImg1(), x, y - this.getSize() / 10, this.getSize() * 2, this.getSize());
                 break;
             case SOUTH:
-                g.drawImage(this.getImg2(), getLocation().getX() + 45, getLocation().getY() - this.getSize() / 10, this.getSize(), this.getSize(), this.getPanel());
+                drawSprite(g, this.getImg2(), x + 45, y - this.getSize() / 10, this.getSize(), this.getSize());
                 break;
             case WEST:
-                g.drawImage(this.getImg3(), getLocation().getX(), getLocation().getY() - this.getSize() / 10 - 14, this.getSize() * 2, this.getSize(), this.getPanel());
+                drawSprite(g, this.getImg3(), x, y - this.getSize() / 10 - 14, this.getSize() * 2, this.getSize());
                 break;
             case NORTH:
-                g.drawImage(this.getImg4(), getLocation().getX() - this.getSize() / 2 + 35, getLocation().getY() - this.getSize() / 10, this.getSize(), this.getSize() * 2 - 15, this.getPanel());
+                drawSprite(g, this.getImg4(), x - this.getSize() / 2 + 35, y - this.getSize() / 10, this.getSize(), this.getSize() * 2 - 15);
                 break;
         }
     }
@@ -207,12 +262,22 @@ public class TerrestrialAnimals extends Animal implements TerrestrialAnimal {
     public boolean fitOrienBasedOnLoc(Point otherLocation) {
         double newDistance = calcDistance(otherLocation);
 
-        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getLocation().getX()) / newDistance;
-        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getLocation().getY()) / newDistance;
+        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getX()) / newDistance;
+        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getY()) / newDistance;
 
-        int x = this.getLocation().getX();
-        int y = this.getLocation().getY();
+        return fitOrien(this.getX(), this.getY(), deltaX, deltaY);
+    }
 
+    /**
+     * Adjusts the orientation of the animal based on its current position and the movement it is about to make.
+     *
+     * @param x The current X coordinate of the animal.
+     * @param y The current Y coordinate of the animal.
+     * @param deltaX The movement on the X axis.
+     * @param deltaY The movement on the Y axis.
+     * @return false if the animal has reached the end of the track, true otherwise.
+     */
+    private boolean fitOrien(int x, int y, double deltaX, double deltaY) {
         // Adjust orientation based on position and intended movement direction
         if ((x >= 675 || x + deltaX >= 675) && (y == 0 || y + deltaY == 0) && this.getOrientation() == Animal.Orientation.EAST) {
             this.setOrien(Animal.Orientation.SOUTH);
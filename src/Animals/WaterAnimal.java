@@ -9,6 +9,7 @@ import java.util.Arrays;
  * Represents a water animal that extends the Animal class.
  */
 public class WaterAnimal extends Animal implements WaterAnimals{
+    private static final int TRACK_END = 585; // The X coordinate where the straight track of the animal ends
 
     /**
      * The maximum depth to which the water animal can dive.
@@ -23,6 +24,7 @@ public class WaterAnimal extends Animal implements WaterAnimals{
      */
     public WaterAnimal() {
         super(); // Call the default constructor of the superclass Animal
+        state.setTrackEnd(slot, TRACK_END);
         this.diveDepth = 0.0;
 
     }
@@ -40,6 +42,7 @@ public class WaterAnimal extends Animal implements WaterAnimals{
      */
     public WaterAnimal(String inputName, Gender inputGender, double inputWeight, double inputSpeed, Medal[] inputMedals, double inputDiveDepth) {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, new Point(50, 0)); // Call the constructor of the superclass Animal
+        state.setTrackEnd(slot, TRACK_END);
         this.diveDepth = inputDiveDepth;
 
     }
@@ -51,6 +54,7 @@ public class WaterAnimal extends Animal implements WaterAnimals{
      */
     public WaterAnimal(WaterAnimal other) {
         super(other); // Call the copy constructor of the superclass Animal
+        state.setTrackEnd(slot, TRACK_END);
         this.diveDepth = other.diveDepth;
 
     }
@@ -163,20 +167,20 @@ public class WaterAnimal extends Animal implements WaterAnimals{
         // Calculate the distance to the new location
         double newDistance = calcDistance(otherLocation);
 
-        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getLocation().getX()) / newDistance;
-        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getLocation().getY()) / newDistance;
+        double deltaX = this.getSpeed() * (otherLocation.getX() - this.getX()) / newDistance;
+        double deltaY = this.getSpeed() * (otherLocation.getY() - this.getY()) / newDistance;
 
         // Stop moving logic for animal reaching the end of the track.
-        if (this.getLocation().getX() >= 585 || this.getLocation().getX() + deltaX >= 585) {
+        if (this.getX() >= 585 || this.getX() + deltaX >= 585) {
             // reached the end of the track
-            this.setLocation(new Point(585, this.getLocation().getY()));
+            this.setCoordinates(585, this.getY());
             this.stopMoving();
             return false;
         }
 
         if (this.canMove()) {
         // Check if the new location is null or the same as the current location
-        if (otherLocation == null || (otherLocation.equals(this.getLocation()) && this.getLocation() != null)) {
+        if (otherLocation == null || (otherLocation.getX() == this.getX() && otherLocation.getY() == this.getY())) {
             return false;
         }
 
@@ -185,19 +189,30 @@ public class WaterAnimal extends Animal implements WaterAnimals{
             return false; // Return false if not enough energy for the move
         }
 
-        Point newPoint = new Point((int) (this.getLocation().getX() + deltaX), (int) (this.getLocation().getY() + deltaY));
-
-        // Update the animal's location
-        this.setLocation(newPoint);
+        // Update the animal's location in place
+        this.setCoordinates((int) (this.getX() + deltaX), (int) (this.getY() + deltaY));
         // Update the total distance moved
-        this.addTotalDistance(Math.sqrt(deltaX * deltaX + deltaY * deltaY));
-        this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * Math.sqrt(deltaX * deltaX + deltaY * deltaY))));
+        double moved = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        this.addTotalDistance(moved);
+        this.setEnergy((int) (this.getEnergy() - (this.getEnergyPerMeter() * moved)));
 
         return true; // Return true to indicate successful movement
     }
     return false;
     }
 
+    /**
+     * Advances the animal by its speed towards the east, in place.
+     * Runs on the race state arrays with {@link Mobility.RaceState#advanceStraight(int)},
+     * which gives the same result as {@link #move(Point)} without creating a Point.
+     *
+     * @return true if the animal successfully moved, false otherwise.
+     */
+    @Override
+    public boolean advance() {
+        return state.advanceStraight(slot);
+    }
+
     /**
      * Sets the starting point for an animal based on its track number.
      * This method calculates the y-coordinate for the starting position using the track number and the total panel height,
@@ -270,17 +285,20 @@ public class WaterAnimal extends Animal implements WaterAnimals{
      * and the method adjusts the image's drawing position based on these orientations.
      *
      * @param g The Graphics object used for drawing the image on the panel.
+     * @param x the X coordinate to draw the animal at.
+     * @param y the Y coordinate to draw the animal at.
+     * @param orientation the orientation to draw the animal in.
      */
     @Override
-    public void drawObject (Graphics g){
-        if(this.getOrientation() == Orientation.EAST){ // Animal move to east side
-            g.drawImage(this.getImg1(), getLocation().getX(), getLocation().getY()-this.getSize()/10, this.getSize()*2, this.getSize(), this.getPanel());
-        } else if (this.getOrientation()  == Orientation.SOUTH) { // Animal move to the south side
-            g.drawImage(this.getImg2(), getLocation().getX() + 30, getLocation().getY()-this.getSize()/10, this.getSize(), this.getSize(), this.getPanel());
-        } else if (this.getOrientation()  == Orientation.WEST) { // Animal move to the west side
-            g.drawImage(this.getImg3(), getLocation().getX(), getLocation().getY()-this.getSize()/10, this.getSize()*2, this.getSize(), this.getPanel());
-        } else if (this.getOrientation()  == Orientation.NORTH) { // Animal move to the north side
-            g.drawImage(this.getImg4(), getLocation().getX()-this.getSize()/2 +35, getLocation().getY()-this.getSize()/10, this.getSize(), this.getSize()*2 - 15, this.getPanel());
+    public void drawAt(Graphics g, int x, int y, Orientation orientation) {
+        if(orientation == Orientation.EAST){ // Animal move to east side
+            drawSprite(g, this.getImg1(), x, y-this.getSize()/10, this.getSize()*2, this.getSize());
+        } else if (orientation  == Orientation.SOUTH) { // Animal move to the south side
+            drawSprite(g, this.getImg2(), x + 30, y-this.getSize()/10, this.getSize(), this.getSize());
+        } else if (orientation  == Orientation.WEST) { // Animal move to the west side
+            drawSprite(g, this.getImg3(), x, y-this.getSize()/10, this.getSize()*2, this.getSize());
+        } else if (orientation  == Orientation.NORTH) { // Animal move to the north side
+            drawSprite(g, this.getImg4(), x-this.getSize()/2 +35, y-this.getSize()/10, this.getSize(), this.getSize()*2 - 15);
         }
     }
 
@@ -1,5 +1,6 @@
 package Animals;
 
+import Graphics.SpriteCache;
 import Olympics.Medal;
 
 /**
@@ -18,8 +19,7 @@ public class Whale extends WaterAnimal {
         super(); // Call the default constructor of the superclass WaterAnimal
         this.foodType = "Unknown";
         this.setSound("Splash");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\whale_EAST_F.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("whale", Orientation.EAST));
     }
 
     /**
@@ -38,8 +38,7 @@ public class Whale extends WaterAnimal {
         super(inputName, inputGender, inputWeight, inputSpeed, inputMedals, inputDiveDepth); // Call the constructor of the superclass WaterAnimal
         this.foodType = foodType;
         this.setSound("Splash");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\whale_EAST_F.png");
-        setImg1(img);
+        setImg1(SpriteCache.getSprite("whale", Orientation.EAST));
     }
 
     /**
@@ -51,8 +50,6 @@ public class Whale extends WaterAnimal {
         super(other); // Call the copy constructor of the superclass WaterAnimal
         this.foodType = other.foodType;
         this.setSound("Splash");
-        loadImages("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\whale_EAST_F.png");
-        setImg1(img);
     }
 
     /**
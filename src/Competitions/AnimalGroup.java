@@ -0,0 +1,89 @@
+package Competitions;
+
+import Animals.Animal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The AnimalGroup class is a group of animals registered in a {@link GroupRegistry}.
+ * Besides its animals, a group knows its name, its competition type, its category and its track number,
+ * as well as its position among all the groups and among the groups of its competition type.
+ * The positions are kept up to date by the registry, so finding them never searches a list.
+ */
+public class AnimalGroup {
+    private final int id; // Unique ID of the group, it does not change when other groups are removed
+    private final String name; // The name of the group
+    private CompetitionType competitionType; // The type of competition the group runs
+    private final GroupCategory category; // The category of the animals of the group, may be null if unknown
+    private final int trackNumber; // The track the group races on
+    private final List<Animal> animals = new ArrayList<>(); // The animals of the group, in race order
+    private int index; // The position of the group among all the groups
+    private int partitionIndex; // The position of the group among the groups of the same competition type
+
+    /**
+     * Constructs an empty group. Groups are created by the {@link GroupRegistry}.
+     *
+     * @param id The unique ID of the group.
+     * @param name The name of the group.
+     * @param competitionType The type of competition the group runs.
+     * @param category The category of the animals of the group.
+     * @param trackNumber The track the group races on.
+     */
+    AnimalGroup(int id, String name, CompetitionType competitionType, GroupCategory category, int trackNumber) {
+        this.id = id;
+        this.name = name;
+        this.competitionType = competitionType;
+        this.category = category;
+        this.trackNumber = trackNumber;
+    }
+
+    public int getId() { return id; }
+
+    public String getName() { return name; }
+
+    public CompetitionType getCompetitionType() { return competitionType; }
+
+    void setCompetitionType(CompetitionType competitionType) { this.competitionType = competitionType; }
+
+    public GroupCategory getCategory() { return category; }
+
+    public int getTrackNumber() { return trackNumber; }
+
+    public int getIndex() { return index; }
+
+    void setIndex(int index) { this.index = index; }
+
+    /**
+     * Retrieves the position of the group among the groups of the same competition type.
+     *
+     * @return The index in the regular or the courier groups of the registry.
+     */
+    public int getPartitionIndex() { return partitionIndex; }
+
+    void setPartitionIndex(int partitionIndex) { this.partitionIndex = partitionIndex; }
+
+    /**
+     * Retrieves the animals of the group. Animals should be added and removed through the registry,
+     * so it can keep track of the group of every animal.
+     *
+     * @return The live list of the animals of the group.
+     */
+    public List<Animal> getAnimals() { return animals; }
+
+    public boolean isCourier() { return competitionType == CompetitionType.COURIER; }
+
+    /**
+     * Calculates the distance an animal of this group has to cover.
+     *
+     * @param animalIndex The index of the animal within the group.
+     * @return The needed distance of the animal.
+     */
+    public double neededDistance(int animalIndex) {
+        return category == null ? GroupCategory.UNKNOWN_DISTANCE : category.neededDistance(animals.size(), animalIndex);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
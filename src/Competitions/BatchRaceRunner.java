@@ -0,0 +1,166 @@
+package Competitions;
+
+import Animals.AirAnimal;
+import Animals.Animal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+/**
+ * The BatchRaceRunner class estimates the chances of a roster by running the same race many times without any user interface.
+ * Every run clones the roster, so the original animals are never touched, and advances the clones with its own
+ * {@link RaceEngine} as fast as possible. The runs are spread over all the cores.
+ *
+ * Every run gets its own random seed, derived from the seed of the batch and the index of the run, so a batch
+ * gives the same result no matter how its runs are scheduled. The seed picks the tracks of the air animals and,
+ * when a speed variation is set, changes the speed of every animal by a random fraction.
+ */
+public class BatchRaceRunner {
+    public static final int PANEL_HEIGHT = 500; // The panel height used to place the animals at their start points
+    private final List<List<Animal>> roster; // The groups of animals to race
+    private final List<String> competitionTypes; // The competition type of every group (regular/courier)
+    private final List<String> groupTypes; // The type of every group (Air, Water, Terrestrial)
+    private double speedVariation = 0.0; // The standard deviation of the relative speed change of every run
+    private long maxTicks = 100000; // The maximum number of ticks of a single run
+
+    /**
+     * Constructs a BatchRaceRunner for the specified roster.
+     * The competition type and group type lists are parallel to the roster list.
+     *
+     * @param roster The groups of animals to race. The animals are cloned in every run.
+     * @param competitionTypes The competition type of every group ("regular" or "courier").
+     * @param groupTypes The type of every group ("Air", "Water" or "Terrestrial").
+     */
+    public BatchRaceRunner(List<List<Animal>> roster, List<String> competitionTypes, List<String> groupTypes) {
+        this.roster = roster;
+        this.competitionTypes = competitionTypes;
+        this.groupTypes = groupTypes;
+    }
+
+    /**
+     * Sets the variation of the speed of the animals between the runs.
+     * In every run the speed of every animal is multiplied by (1 + variation * g), where g is a standard gaussian value.
+     *
+     * @param speedVariation The relative standard deviation of the speed, 0 to race with the original speeds.
+     * @return true if the variation was set successfully, false otherwise.
+     */
+    public boolean setSpeedVariation(double speedVariation) {
+        if (speedVariation < 0 || Double.isNaN(speedVariation)) {
+            System.out.println("Error: Speed variation cannot be negative");
+            return false;
+        }
+        this.speedVariation = speedVariation;
+        return true;
+    }
+
+    /**
+     * Sets the maximum number of ticks of a single run. Animals that did not finish by then are counted as not finished.
+     *
+     * @param maxTicks The maximum number of ticks.
+     * @return true if the maximum was set successfully, false otherwise.
+     */
+    public boolean setMaxTicks(long maxTicks) {
+        if (maxTicks <= 0) {
+            System.out.println("Error: Max ticks must be greater than 0");
+            return false;
+        }
+        this.maxTicks = maxTicks;
+        return true;
+    }
+
+    /**
+     * Runs a batch of independent races in parallel.
+     *
+     * @param runs The number of races to run.
+     * @param seed The seed of the batch. The same seed gives the same result.
+     * @return The statistics of all the races.
+     */
+    public BatchResult run(long runs, long seed) {
+        List<List<String>> names = new ArrayList<>(roster.size());
+        for (List<Animal> group : roster) {
+            List<String> groupNames = new ArrayList<>(group.size());
+            for (Animal animal : group) {
+                groupNames.add(animal.getName());
+            }
+            names.add(groupNames);
+        }
+
+        return LongStream.range(0, runs)
+                .parallel()
+                .collect(() -> new BatchResult(names),
+                        (result, run) -> result.record(runOnce(runSeed(seed, run))),
+                        BatchResult::merge);
+    }
+
+    /**
+     * Runs a single race on clones of the roster.
+     *
+     * @param seed The seed of the run.
+     * @return The tick in which every animal finished, or -1 for the animals that did not finish.
+     */
+    long[][] runOnce(long seed) {
+        Random random = new Random(seed);
+        List<List<Animal>> groups = new ArrayList<>(roster.size());
+        long[][] finishTicks = new long[roster.size()][];
+        Map<Animal, long[]> finishTickOf = new IdentityHashMap<>(); // The finish tick array of the group of every clone
+        Map<Animal, Integer> indexOf = new IdentityHashMap<>(); // The index of every clone within its group
+
+        for (int groupIndex = 0; groupIndex < roster.size(); groupIndex++) {
+            List<Animal> group = roster.get(groupIndex);
+            List<Animal> clones = new ArrayList<>(group.size());
+            boolean courier = "courier".equals(competitionTypes.get(groupIndex));
+
+            for (int animalIndex = 0; animalIndex < group.size(); animalIndex++) {
+                Animal clone = group.get(animalIndex).clone();
+                if (clone instanceof AirAnimal) {
+                    ((AirAnimal) clone).assignRandomTrack(random);
+                }
+                if (courier) {
+                    clone.setStartPointCourier(PANEL_HEIGHT, group.size(), animalIndex + 1);
+                } else {
+                    clone.setStartPoint(PANEL_HEIGHT);
+                }
+                if (speedVariation > 0) {
+                    double factor = Math.max(0.01, 1 + speedVariation * random.nextGaussian());
+                    clone.setSpeed(clone.getSpeed() * factor);
+                }
+                clones.add(clone);
+            }
+            groups.add(clones);
+            finishTicks[groupIndex] = new long[group.size()];
+            Arrays.fill(finishTicks[groupIndex], -1);
+            for (int animalIndex = 0; animalIndex < clones.size(); animalIndex++) {
+                finishTickOf.put(clones.get(animalIndex), finishTicks[groupIndex]);
+                indexOf.put(clones.get(animalIndex), animalIndex);
+            }
+        }
+
+        RaceEngine engine = new RaceEngine(groups, competitionTypes, groupTypes);
+        engine.reset();
+        engine.setFinishListener(event -> {
+            // The listener is called after the tick, so the tick count is the tick the animal finished in
+            Animal finished = event.getAnimal();
+            finishTickOf.get(finished)[indexOf.get(finished)] = engine.getTickCount();
+        });
+        engine.runToCompletion(maxTicks);
+        return finishTicks;
+    }
+
+    /**
+     * Derives the seed of a single run from the seed of the batch, so neighbouring runs get unrelated seeds.
+     *
+     * @param seed The seed of the batch.
+     * @param run The index of the run.
+     * @return The seed of the run.
+     */
+    static long runSeed(long seed, long run) {
+        long z = seed + (run + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,286 @@
+package Competitions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The BatchResult class holds the statistics of a batch of races run by the {@link BatchRaceRunner}.
+ * For every animal of the roster it counts the wins and podium places of its group,
+ * and keeps a histogram of the tick in which the animal finished.
+ *
+ * Partial results of different threads are combined with {@link #merge(BatchResult)}.
+ */
+public class BatchResult {
+    private final List<List<AnimalStats>> stats; // The statistics of every animal, in roster order
+    private long runs = 0; // The number of races in this result
+
+    /**
+     * Constructs an empty result for a roster with the specified group sizes.
+     *
+     * @param names The names of the animals of every group.
+     */
+    BatchResult(List<List<String>> names) {
+        this.stats = new ArrayList<>(names.size());
+        for (List<String> groupNames : names) {
+            List<AnimalStats> groupStats = new ArrayList<>(groupNames.size());
+            for (String name : groupNames) {
+                groupStats.add(new AnimalStats(name));
+            }
+            stats.add(groupStats);
+        }
+    }
+
+    /**
+     * Records the result of a single race.
+     *
+     * @param finishTicks The tick in which every animal finished, or -1 if it did not finish.
+     */
+    void record(long[][] finishTicks) {
+        int groupCount = finishTicks.length;
+        long[] groupFinish = new long[groupCount];
+
+        // A group finishes when its last animal finishes
+        for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+            long last = 0;
+            for (long tick : finishTicks[groupIndex]) {
+                if (tick < 0) {
+                    last = -1;
+                    break;
+                }
+                last = Math.max(last, tick);
+            }
+            groupFinish[groupIndex] = last;
+        }
+
+        for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+            int place = place(groupFinish, groupIndex);
+            List<AnimalStats> groupStats = stats.get(groupIndex);
+            for (int animalIndex = 0; animalIndex < groupStats.size(); animalIndex++) {
+                groupStats.get(animalIndex).record(place, finishTicks[groupIndex][animalIndex]);
+            }
+        }
+        runs++;
+    }
+
+    /**
+     * Calculates the place of a group, groups that finished in the same tick share their place.
+     *
+     * @param groupFinish The finish tick of every group, or -1 if the group did not finish.
+     * @param groupIndex The index of the group.
+     * @return The place of the group starting from 1, or 0 if the group did not finish.
+     */
+    private static int place(long[] groupFinish, int groupIndex) {
+        long finish = groupFinish[groupIndex];
+        if (finish < 0) {
+            return 0;
+        }
+        int place = 1;
+        for (long other : groupFinish) {
+            if (other >= 0 && other < finish) {
+                place++;
+            }
+        }
+        return place;
+    }
+
+    /**
+     * Adds the statistics of another result of the same roster to this one.
+     *
+     * @param other The result to add.
+     * @return This result.
+     */
+    BatchResult merge(BatchResult other) {
+        for (int groupIndex = 0; groupIndex < stats.size(); groupIndex++) {
+            List<AnimalStats> groupStats = stats.get(groupIndex);
+            for (int animalIndex = 0; animalIndex < groupStats.size(); animalIndex++) {
+                groupStats.get(animalIndex).merge(other.stats.get(groupIndex).get(animalIndex));
+            }
+        }
+        runs += other.runs;
+        return this;
+    }
+
+    /**
+     * Retrieves the number of races in this result.
+     *
+     * @return The number of races.
+     */
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * Retrieves the statistics of an animal.
+     *
+     * @param groupIndex The index of the group of the animal in the roster.
+     * @param animalIndex The index of the animal within its group.
+     * @return The statistics of the animal.
+     */
+    public AnimalStats getStats(int groupIndex, int animalIndex) {
+        return stats.get(groupIndex).get(animalIndex);
+    }
+
+    /**
+     * Retrieves the statistics of all the animals, in roster order.
+     *
+     * @return The statistics of every group.
+     */
+    public List<List<AnimalStats>> getStats() {
+        return stats;
+    }
+
+    /**
+     * Returns a report with a line for every animal of the roster.
+     *
+     * @return The report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("Races: " + runs + "\n");
+        for (int groupIndex = 0; groupIndex < stats.size(); groupIndex++) {
+            for (AnimalStats animalStats : stats.get(groupIndex)) {
+                report.append("Group ").append(groupIndex + 1).append(": ").append(animalStats).append('\n');
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * The AnimalStats class holds the statistics of a single animal over all the races of a batch.
+     */
+    public static class AnimalStats {
+        private final String name; // The name of the animal
+        private long wins = 0; // The number of races its group won
+        private long podiums = 0; // The number of races its group finished in the first three places
+        private long finishes = 0; // The number of races the animal finished
+        private long[] finishHistogram = new long[64]; // The number of finishes in every tick
+
+        /**
+         * Constructs empty statistics for an animal.
+         *
+         * @param name The name of the animal.
+         */
+        AnimalStats(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records the result of the animal in a single race.
+         *
+         * @param place The place of the group of the animal, or 0 if the group did not finish.
+         * @param finishTick The tick in which the animal finished, or -1 if it did not finish.
+         */
+        private void record(int place, long finishTick) {
+            if (place == 1) {
+                wins++;
+            }
+            if (place >= 1 && place <= 3) {
+                podiums++;
+            }
+            if (finishTick >= 0) {
+                addFinishes((int) finishTick, 1);
+            }
+        }
+
+        /**
+         * Adds finishes in a tick to the histogram, growing it when needed.
+         *
+         * @param tick The tick of the finishes.
+         * @param count The number of finishes.
+         */
+        private void addFinishes(int tick, long count) {
+            if (tick >= finishHistogram.length) {
+                finishHistogram = Arrays.copyOf(finishHistogram, Math.max(tick + 1, finishHistogram.length * 2));
+            }
+            finishHistogram[tick] += count;
+            finishes += count;
+        }
+
+        /**
+         * Adds the statistics of the same animal from another result.
+         *
+         * @param other The statistics to add.
+         */
+        private void merge(AnimalStats other) {
+            wins += other.wins;
+            podiums += other.podiums;
+            for (int tick = 0; tick < other.finishHistogram.length; tick++) {
+                if (other.finishHistogram[tick] != 0) {
+                    addFinishes(tick, other.finishHistogram[tick]);
+                }
+            }
+        }
+
+        public String getName() { return name; }
+
+        public long getWins() { return wins; }
+
+        public long getPodiums() { return podiums; }
+
+        public long getFinishes() { return finishes; }
+
+        /**
+         * Retrieves the finish tick histogram of the animal.
+         *
+         * @return A copy of the histogram, the element at index t is the number of races the animal finished in tick t.
+         */
+        public long[] getFinishHistogram() {
+            return Arrays.copyOf(finishHistogram, finishHistogram.length);
+        }
+
+        /**
+         * Calculates the average tick in which the animal finished.
+         *
+         * @return The average finish tick, or NaN if the animal never finished.
+         */
+        public double getMeanFinishTick() {
+            if (finishes == 0) {
+                return Double.NaN;
+            }
+            double sum = 0;
+            for (int tick = 0; tick < finishHistogram.length; tick++) {
+                sum += (double) tick * finishHistogram[tick];
+            }
+            return sum / finishes;
+        }
+
+        /**
+         * Calculates a percentile of the finish ticks of the animal.
+         *
+         * @param percentile The percentile, between 0 and 100.
+         * @return The smallest tick that covers the requested share of the finishes, or -1 if the animal never finished.
+         */
+        public int getFinishTickPercentile(double percentile) {
+            if (finishes == 0) {
+                return -1;
+            }
+            long needed = Math.max(1, (long) Math.ceil(finishes * percentile / 100.0));
+            long seen = 0;
+            for (int tick = 0; tick < finishHistogram.length; tick++) {
+                seen += finishHistogram[tick];
+                if (seen >= needed) {
+                    return tick;
+                }
+            }
+            return finishHistogram.length - 1;
+        }
+
+        /**
+         * Returns a summary of the statistics of the animal.
+         * The finish times are given in simulated milliseconds.
+         *
+         * @return The summary.
+         */
+        @Override
+        public String toString() {
+            return name +
+                    " wins=" + wins +
+                    ", podiums=" + podiums +
+                    ", finished=" + finishes +
+                    ", meanFinish=" + String.format("%.1f", getMeanFinishTick() * RaceEngine.TICK_MILLIS) + "ms" +
+                    ", p50=" + getFinishTickPercentile(50) * RaceEngine.TICK_MILLIS + "ms" +
+                    ", p95=" + getFinishTickPercentile(95) * RaceEngine.TICK_MILLIS + "ms";
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package Competitions;
+
+/**
+ * The type of competition a group runs.
+ * A regular group races a single animal, a courier group passes the race from one animal to the next.
+ */
+public enum CompetitionType {
+    REGULAR("regular"),
+    COURIER("courier");
+
+    private final String label; // The name of the type as it is shown and stored in the user interface
+
+    CompetitionType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retrieves the name of the type as it is used in the user interface.
+     *
+     * @return "regular" or "courier".
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Finds the competition type with the specified label.
+     *
+     * @param label The label of the type, "regular" or "courier".
+     * @return The competition type, or null if the label is unknown.
+     */
+    public static CompetitionType fromLabel(String label) {
+        for (CompetitionType type : values()) {
+            if (type.label.equals(label)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
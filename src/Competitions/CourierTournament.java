@@ -9,6 +9,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * The CourierTournament class represents a tournament where animals compete in a relay race format.
  * Each group of animals participates in a sequence, with the next group starting when the previous group finishes.
+ * The animals at the same position of the groups form a relay, and a {@link RelayCoordinator} hands the baton
+ * from the animal of one group to the animal of the next group as soon as it finishes, even if the groups differ in size.
  * This class handles the setup and execution of the tournament, including the management of AnimalThreads and Referees.
  */
 public class CourierTournament extends Tournament {
@@ -16,6 +18,7 @@ public class CourierTournament extends Tournament {
     private List<List<Animal>>  animals;
     private String groupType;
     private static AnimalThread[][] animalThreads;
+    private static RelayCoordinator[] relays; // The relay of every position in the groups
     private static List<Referee> referees = new ArrayList<>();
 
     /**
@@ -41,44 +44,47 @@ public class CourierTournament extends Tournament {
      */
     @Override
     protected void setup(List<List<Animal>> animals, AtomicBoolean startFlag) {
-        AtomicBoolean startFlag1 = new AtomicBoolean(false);
-
         // Initialize the finishFlags and animalThreads arrays
         AtomicBoolean[][] finishFlags = new AtomicBoolean[animals.size()][];
         animalThreads = new AnimalThread[animals.size()][];
 
         try {
+            // The animals at the same position of every group form a relay, with a leg for every group that has such an animal
+            int lanes = 0;
+            for (List<Animal> group : animals) {
+                lanes = Math.max(lanes, group.size());
+            }
+            relays = new RelayCoordinator[lanes];
+            for (int j = 0; j < lanes; j++) {
+                int legs = 0;
+                for (List<Animal> group : animals) {
+                    if (j < group.size()) {
+                        legs++;
+                    }
+                }
+                relays[j] = new RelayCoordinator(legs);
+            }
+
+            int[] nextLeg = new int[lanes]; // The next leg of every relay
             for (int i = 0; i < animals.size(); i++) {
                 finishFlags[i] = new AtomicBoolean[animals.get(i).size()];
                 animalThreads[i] = new AnimalThread[animals.get(i).size()];
 
                 for (int j = 0; j < animals.get(i).size(); j++) {
                     finishFlags[i][j] = new AtomicBoolean(false);
+                    Animal animal = animals.get(i).get(j);
 
-                    if (i == 0) {
-                        // First group uses startFlag1
-                        animalThreads[i][j] = new AnimalThread(animals.get(i).get(j), calculateNeededDistance(i), startFlag1, finishFlags[i][j]);
-                    } else {
-                        // Check if the previous group has at least as many animals as the current group
-                        if (j < finishFlags[i - 1].length) {
-                            // Safe to access the previous group's finishFlag
-                            animalThreads[i][j] = new AnimalThread(animals.get(i).get(j), calculateNeededDistance(i), finishFlags[i - 1][j], finishFlags[i][j]);
-                        } else {
-                            // Handle the case where the previous group has fewer animals
-                            // For example, use a default flag or skip this thread setup
-                            //System.err.println("Mismatch in group sizes; skipping thread setup for this animal.");
-                        }
-                    }
+                    // Every animal starts with the tournament, and then waits for the baton of its relay
+                    animalThreads[i][j] = new AnimalThread(animal, calculateNeededDistance(i), startFlag, finishFlags[i][j], relays[j], nextLeg[j]++);
 
-                    Thread thread = new Thread(animalThreads[i][j]);
-                    thread.start();
+                    // Start the animal according to the selected execution mode
+                    startParticipant(animalThreads[i][j]);
                 }
             }
 
             // Start the tournament thread
-            this.tournamentThread = new TournamentThread(startFlag1, animals.size(), "courier");
-            Thread tournamentThread = new Thread(this.tournamentThread);
-            tournamentThread.start();
+            this.tournamentThread = new TournamentThread(startFlag, animals.size(), "courier");
+            ExecutionMode.getCurrent().start(this.tournamentThread, "Tournament-courier");
 
         } catch (Exception e) {
             e.printStackTrace(); // Keep this to see what exactly is going wrong
@@ -124,4 +130,13 @@ public class CourierTournament extends Tournament {
         return animalThreads;
     }
 
+    /**
+     * Retrieves the relays of the tournament, one for every position in the groups.
+     *
+     * @return The RelayCoordinators of the tournament.
+     */
+    public static RelayCoordinator[] getRelays() {
+        return relays;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package Competitions;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Enum representing the way the race participants and tournament runners are executed.
+ * <ul>
+ *   <li>POOLED: the animals are stepped by the {@link TickScheduler}, the other runners use platform threads.</li>
+ *   <li>PLATFORM: every runner gets its own platform (OS) thread.</li>
+ *   <li>VIRTUAL: every runner gets its own virtual thread, so very large rosters do not run out of thread stacks.</li>
+ * </ul>
+ * The initial mode can be chosen with the system property {@code race.executionMode}.
+ *
+ * Virtual threads only exist from Java 21 on, while the simulation itself runs on older versions too.
+ * They are therefore created through reflection, and on a runtime without them the VIRTUAL mode is not available
+ * and falls back to PLATFORM.
+ */
+public enum ExecutionMode {
+    POOLED, PLATFORM, VIRTUAL;
+
+    private static volatile ExecutionMode current = fromProperty(); // The mode used for the next race
+
+    /**
+     * Resolves the virtual thread builder of the runtime once, the first time a virtual thread is needed.
+     */
+    private static class VirtualThreads {
+        private static final Method OF_VIRTUAL; // Thread.ofVirtual(), null if the runtime has no virtual threads
+        private static final Method NAME; // Thread.Builder.name(String)
+        private static final Method START; // Thread.Builder.start(Runnable)
+
+        static {
+            Method ofVirtual = null;
+            Method name = null;
+            Method start = null;
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builder.getMethod("name", String.class);
+                start = builder.getMethod("start", Runnable.class);
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                ofVirtual = null; // Virtual threads are not available on this runtime
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            START = start;
+        }
+
+        /**
+         * Starts a runner on a new virtual thread.
+         *
+         * @param task The runner to start.
+         * @param name The name of the new thread.
+         * @return The started thread.
+         */
+        static Thread start(Runnable task, String name) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), name);
+                return (Thread) START.invoke(builder, task);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot create a virtual thread", e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException("Cannot create a virtual thread", cause);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the mode that is currently selected.
+     *
+     * @return The current execution mode.
+     */
+    public static ExecutionMode getCurrent() {
+        return current;
+    }
+
+    /**
+     * Selects the mode used to run the next race. A mode the runtime does not support is replaced by PLATFORM.
+     *
+     * @param mode The new execution mode. It cannot be null.
+     */
+    public static void setCurrent(ExecutionMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode cannot be null");
+        }
+        if (!mode.isAvailable()) {
+            System.err.println("Virtual threads are not available, using " + PLATFORM);
+            mode = PLATFORM;
+        }
+        current = mode;
+    }
+
+    /**
+     * Checks if the runtime supports this mode. Only VIRTUAL can be missing, on runtimes older than Java 21.
+     *
+     * @return true if the mode can be used, false otherwise.
+     */
+    public boolean isAvailable() {
+        return this != VIRTUAL || VirtualThreads.OF_VIRTUAL != null;
+    }
+
+    /**
+     * Starts a runner (such as a tournament thread) on a new thread of this mode.
+     * When virtual threads are not available, a VIRTUAL runner gets a platform thread.
+     *
+     * @param task The runner to start.
+     * @param name The name of the new thread.
+     * @return The started thread.
+     */
+    public Thread start(Runnable task, String name) {
+        if (this == VIRTUAL && isAvailable()) {
+            return VirtualThreads.start(task, name);
+        }
+        Thread thread = new Thread(task, name);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Starts a race participant. In POOLED mode the participant is stepped by the {@link TickScheduler},
+     * otherwise it runs on its own thread of this mode.
+     *
+     * @param participant The participant to start.
+     * @param name The name of the thread, if one is created.
+     * @param <T> The type of the participant, which can both run on a thread and be stepped.
+     */
+    public <T extends Runnable & ISteppable> void startParticipant(T participant, String name) {
+        if (this == POOLED) {
+            TickScheduler.getInstance().register(participant);
+        } else {
+            start(participant, name);
+        }
+    }
+
+    /**
+     * Reads the initial mode from the {@code race.executionMode} system property.
+     * Falls back to POOLED if the property is missing or invalid, and to PLATFORM if virtual threads are not available.
+     *
+     * @return The initial execution mode.
+     */
+    private static ExecutionMode fromProperty() {
+        String value = System.getProperty("race.executionMode", POOLED.name());
+        try {
+            ExecutionMode mode = valueOf(value.trim().toUpperCase());
+            if (!mode.isAvailable()) {
+                System.err.println("Virtual threads are not available, using " + PLATFORM);
+                return PLATFORM;
+            }
+            return mode;
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown execution mode " + value + ", using " + POOLED);
+            return POOLED;
+        }
+    }
+}
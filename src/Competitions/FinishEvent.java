@@ -0,0 +1,44 @@
+package Competitions;
+
+import Animals.Animal;
+
+/**
+ * The FinishEvent class describes an animal that has just finished its part of the race.
+ * Finish events are published by the movement step at the moment the animal crosses its needed distance
+ * (or reaches the end of its track), and are consumed by the referees.
+ * The finish time is measured in simulated race time from the start of the race, so it does not depend on
+ * the {@link RaceSpeed} the race was run at.
+ */
+public class FinishEvent {
+    private final Animal animal; // The animal that finished
+    private final long raceNanos; // The race time the animal finished at
+
+    /**
+     * Constructs a FinishEvent for the specified animal.
+     *
+     * @param animal The animal that finished.
+     * @param raceNanos The simulated time from the start of the race until the animal finished, in nanoseconds.
+     */
+    public FinishEvent(Animal animal, long raceNanos) {
+        this.animal = animal;
+        this.raceNanos = raceNanos;
+    }
+
+    /**
+     * Retrieves the animal that finished.
+     *
+     * @return The animal.
+     */
+    public Animal getAnimal() {
+        return animal;
+    }
+
+    /**
+     * Retrieves the time the animal finished.
+     *
+     * @return The simulated time from the start of the race until the animal finished, in nanoseconds.
+     */
+    public long getRaceNanos() {
+        return raceNanos;
+    }
+}
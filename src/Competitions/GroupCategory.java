@@ -0,0 +1,71 @@
+package Competitions;
+
+/**
+ * The category of the animals of a group, which decides the track the group races on
+ * and the distance every animal of a courier group has to cover.
+ */
+public enum GroupCategory {
+    AIR("Air"),
+    WATER("Water"),
+    TERRESTRIAL("Terrestrial");
+
+    public static final double UNKNOWN_DISTANCE = 1000; // The needed distance of a group without a known category
+
+    private final String label; // The name of the category as it is shown and stored in the user interface
+
+    GroupCategory(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retrieves the name of the category as it is used in the user interface.
+     *
+     * @return "Air", "Water" or "Terrestrial".
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Calculates the distance an animal of a group of this category has to cover.
+     * Air and water tracks are split evenly between the animals of the group,
+     * the terrestrial track has a fixed distance for every position.
+     *
+     * @param groupSize The number of animals in the group.
+     * @param animalIndex The index of the animal within the group.
+     * @return The needed distance of the animal.
+     */
+    public double neededDistance(int groupSize, int animalIndex) {
+        switch (this) {
+            case AIR:
+                return 600.0 / groupSize;
+            case WATER:
+                return 560.0 / groupSize;
+            default:
+                if (animalIndex == 0) {
+                    return 610;
+                } else if (animalIndex == 1) {
+                    return 420;
+                } else if (animalIndex == 2) {
+                    return 630;
+                } else {
+                    return 2250.0 / 4;
+                }
+        }
+    }
+
+    /**
+     * Finds the category with the specified label.
+     *
+     * @param label The label of the category, "Air", "Water" or "Terrestrial".
+     * @return The category, or null if the label is unknown.
+     */
+    public static GroupCategory fromLabel(String label) {
+        for (GroupCategory category : values()) {
+            if (category.label.equals(label)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,184 @@
+package Competitions;
+
+import Animals.Animal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The GroupRegistry class holds all the groups of a competition.
+ * Groups can be found by their position, their ID, their name or one of their animals without searching,
+ * and the regular and courier groups are kept in separate partitions that are updated whenever the groups change.
+ *
+ * For the code that works with plain lists, the registry also keeps lists of the animal lists, the competition type
+ * labels and the category labels of the groups, in the same order as the groups. All the lists are read only views.
+ */
+public class GroupRegistry {
+    private final List<AnimalGroup> groups = new ArrayList<>(); // All the groups, in the order they were added
+    private final List<AnimalGroup> regularGroups = new ArrayList<>(); // The groups that run a regular race
+    private final List<AnimalGroup> courierGroups = new ArrayList<>(); // The groups that run a courier race
+    private final Map<Integer, AnimalGroup> groupsById = new HashMap<>(); // The group of every group ID
+    private final Map<String, AnimalGroup> groupsByName = new HashMap<>(); // The first group with every name
+    private final Map<Integer, AnimalGroup> groupsByAnimalId = new HashMap<>(); // The group of every animal ID
+    private final List<List<Animal>> animalLists = new ArrayList<>(); // The animals of every group
+    private final List<List<Animal>> regularAnimalLists = new ArrayList<>(); // The animals of every regular group
+    private final List<List<Animal>> courierAnimalLists = new ArrayList<>(); // The animals of every courier group
+    private final List<String> competitionTypeLabels = new ArrayList<>(); // The competition type of every group
+    private final List<String> categoryLabels = new ArrayList<>(); // The category of every group
+    private int nextId = 0; // The ID of the next group
+
+    /**
+     * Adds a new empty group at the end of the registry.
+     *
+     * @param name The name of the group.
+     * @param competitionType The type of competition the group runs.
+     * @param category The category of the animals of the group, or null if unknown.
+     * @param trackNumber The track the group races on.
+     * @return The new group.
+     */
+    public synchronized AnimalGroup addGroup(String name, CompetitionType competitionType, GroupCategory category, int trackNumber) {
+        AnimalGroup group = new AnimalGroup(nextId++, name, competitionType, category, trackNumber);
+        group.setIndex(groups.size());
+        groups.add(group);
+        groupsById.put(group.getId(), group);
+        groupsByName.putIfAbsent(name, group); // Lookups by name find the first group with the name
+        animalLists.add(group.getAnimals());
+        competitionTypeLabels.add(competitionType.getLabel());
+        categoryLabels.add(category == null ? null : category.getLabel());
+        addToPartition(group);
+        return group;
+    }
+
+    /**
+     * Removes a group and forgets its animals. The positions of the groups after it are updated.
+     *
+     * @param group The group to remove.
+     * @return true if the group was removed, false if it is not in the registry.
+     */
+    public synchronized boolean removeGroup(AnimalGroup group) {
+        if (groupsById.remove(group.getId()) == null) {
+            return false;
+        }
+        for (Animal animal : group.getAnimals()) {
+            groupsByAnimalId.remove(animal.getId());
+        }
+        groups.remove(group.getIndex());
+        rebuildIndexes();
+        return true;
+    }
+
+    /**
+     * Changes the competition type of a group and moves it to the matching partition.
+     *
+     * @param group The group to change.
+     * @param competitionType The new competition type.
+     */
+    public synchronized void setCompetitionType(AnimalGroup group, CompetitionType competitionType) {
+        group.setCompetitionType(competitionType);
+        rebuildIndexes();
+    }
+
+    /**
+     * Adds an animal to the end of a group.
+     *
+     * @param group The group to add the animal to.
+     * @param animal The animal to add.
+     * @return true if the animal was added, false if it is already in the group.
+     */
+    public synchronized boolean addAnimal(AnimalGroup group, Animal animal) {
+        if (groupsByAnimalId.get(animal.getId()) == group) {
+            return false;
+        }
+        group.getAnimals().add(animal);
+        groupsByAnimalId.put(animal.getId(), group);
+        return true;
+    }
+
+    /**
+     * Removes an animal from its group.
+     *
+     * @param animal The animal to remove.
+     * @return The group the animal was removed from, or null if the animal is not in any group.
+     */
+    public synchronized AnimalGroup removeAnimal(Animal animal) {
+        AnimalGroup group = groupsByAnimalId.remove(animal.getId());
+        if (group != null) {
+            group.getAnimals().removeIf(member -> member.getId() == animal.getId());
+        }
+        return group;
+    }
+
+    public synchronized int size() { return groups.size(); }
+
+    public synchronized AnimalGroup get(int index) { return groups.get(index); }
+
+    public synchronized AnimalGroup getById(int id) { return groupsById.get(id); }
+
+    public synchronized AnimalGroup getByName(String name) { return groupsByName.get(name); }
+
+    /**
+     * Finds the group of an animal.
+     *
+     * @param animal The animal.
+     * @return The group of the animal, or null if the animal is not in any group.
+     */
+    public synchronized AnimalGroup groupOf(Animal animal) { return groupsByAnimalId.get(animal.getId()); }
+
+    public List<AnimalGroup> getGroups() { return Collections.unmodifiableList(groups); }
+
+    public List<AnimalGroup> getRegularGroups() { return Collections.unmodifiableList(regularGroups); }
+
+    public List<AnimalGroup> getCourierGroups() { return Collections.unmodifiableList(courierGroups); }
+
+    public List<List<Animal>> getAnimalLists() { return Collections.unmodifiableList(animalLists); }
+
+    public List<List<Animal>> getRegularAnimalLists() { return Collections.unmodifiableList(regularAnimalLists); }
+
+    public List<List<Animal>> getCourierAnimalLists() { return Collections.unmodifiableList(courierAnimalLists); }
+
+    public List<String> getCompetitionTypeLabels() { return Collections.unmodifiableList(competitionTypeLabels); }
+
+    public List<String> getCategoryLabels() { return Collections.unmodifiableList(categoryLabels); }
+
+    /**
+     * Adds a group to the end of the partition of its competition type.
+     *
+     * @param group The group to add.
+     */
+    private void addToPartition(AnimalGroup group) {
+        if (group.isCourier()) {
+            group.setPartitionIndex(courierGroups.size());
+            courierGroups.add(group);
+            courierAnimalLists.add(group.getAnimals());
+        } else {
+            group.setPartitionIndex(regularGroups.size());
+            regularGroups.add(group);
+            regularAnimalLists.add(group.getAnimals());
+        }
+    }
+
+    /**
+     * Recomputes the positions, the name index, the partitions and the plain lists from the list of groups.
+     */
+    private void rebuildIndexes() {
+        groupsByName.clear();
+        regularGroups.clear();
+        courierGroups.clear();
+        animalLists.clear();
+        regularAnimalLists.clear();
+        courierAnimalLists.clear();
+        competitionTypeLabels.clear();
+        categoryLabels.clear();
+        for (int i = 0; i < groups.size(); i++) {
+            AnimalGroup group = groups.get(i);
+            group.setIndex(i);
+            groupsByName.putIfAbsent(group.getName(), group);
+            animalLists.add(group.getAnimals());
+            competitionTypeLabels.add(group.getCompetitionType().getLabel());
+            categoryLabels.add(group.getCategory() == null ? null : group.getCategory().getLabel());
+            addToPartition(group);
+        }
+    }
+}
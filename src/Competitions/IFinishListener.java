@@ -0,0 +1,14 @@
+package Competitions;
+
+/**
+ * Interface representing an object that is notified when an animal finishes its part of the race.
+ */
+public interface IFinishListener {
+
+    /**
+     * Called when an animal has finished.
+     *
+     * @param event The event describing the animal that finished.
+     */
+    public void onFinish(FinishEvent event);
+}
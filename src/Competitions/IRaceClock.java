@@ -0,0 +1,32 @@
+package Competitions;
+
+/**
+ * Interface representing the clock the components of a race read the time from and wait on.
+ * The {@link RealRaceClock} follows the wall clock at the current {@link RaceSpeed}, while the
+ * {@link SimulatedRaceClock} never waits for real time, so a whole race can run as fast as the CPU allows.
+ * The clock of a race is chosen when the race begins, see {@link RaceLifecycle#begin(IRaceClock)}.
+ */
+public interface IRaceClock {
+
+    /**
+     * Retrieves the current time of the clock. Only the difference between two readings is meaningful.
+     *
+     * @return The current time in nanoseconds.
+     */
+    public long nanoTime();
+
+    /**
+     * Waits for a period of race time.
+     *
+     * @param millis The race time to wait for, in milliseconds.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void sleep(long millis) throws InterruptedException;
+
+    /**
+     * Checks if the clock is simulated.
+     *
+     * @return true if waiting on the clock does not take any real time, false otherwise.
+     */
+    public boolean isSimulated();
+}
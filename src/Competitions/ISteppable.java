@@ -0,0 +1,24 @@
+package Competitions;
+
+/**
+ * Interface representing a race participant that can be advanced one step at a time by a scheduler.
+ */
+public interface ISteppable {
+
+    /**
+     * Performs a single step of the participant.
+     *
+     * @return true if the participant has finished and does not need to be stepped anymore, false otherwise.
+     */
+    public boolean step();
+
+    /**
+     * Checks if the participant is waiting for something else, such as the start signal, before it can make progress.
+     * A scheduler does not need to step a waiting participant.
+     *
+     * @return true if a step would not advance the participant, false otherwise.
+     */
+    public default boolean isWaiting() {
+        return false;
+    }
+}
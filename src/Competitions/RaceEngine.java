@@ -0,0 +1,509 @@
+package Competitions;
+
+import Animals.Animal;
+import Mobility.RaceState;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RaceEngine class advances a race at a fixed timestep without depending on any user interface.
+ * It receives the groups of animals together with the competition type (regular/courier) and the
+ * group type (Air, Water, Terrestrial) of every group, and moves all of them one tick at a time.
+ *
+ * The engine can be driven by a timer (as the GUI does through {@code Graphics.Tick}) or run as fast
+ * as possible on a headless machine with {@link #runToCompletion(long)}.
+ * The engine moves all its animals into one {@link RaceState}, so the animals that run on a straight track
+ * are stepped by scanning its arrays instead of calling the move method of every animal.
+ * When a finish listener is set, the engine publishes a {@link FinishEvent} for every animal
+ * at the end of the tick in which it stopped moving. The finish time of the event is the simulated time at the end
+ * of that tick, so the results of a race do not depend on how fast the driver runs the engine.
+ *
+ * The driver of the engine publishes an immutable {@link RaceSnapshot} of all the animals through a volatile
+ * reference with {@link #publishSnapshot()}, which the user interface paints from without locking the animals.
+ * Publishing is left to the driver, so a driver that performs several ticks per frame publishes them once.
+ * A snapshot copies the animals without locking them, so it is only taken by the thread that steps the engine,
+ * which is the only thread that moves the animals of the race.
+ *
+ * The engine is owned by a single thread, at first the thread that created it. Only the owner may reset or step
+ * the engine and publish its snapshots, any other thread is rejected with an {@link IllegalStateException}.
+ * A driver that prepares the engine on one thread and steps it on another hands it over once with
+ * {@link #handOver(Thread)}, before the stepping thread first uses it.
+ *
+ * The groups do not share any animal, so in parallel mode the groups of a tick are split across a
+ * {@link ForkJoinPool}. The finish events are buffered per group and published in group order once all
+ * the groups have been stepped, so the parallel mode gives exactly the same results as the sequential one.
+ */
+public class RaceEngine {
+    public static final int TICK_MILLIS = 100; // The simulated time that passes in one tick
+    public static final int PARALLEL_MIN_GROUPS = 64; // The number of groups from which parallel stepping pays off
+    private static final int GROUPS_PER_TASK = 8; // The number of groups a fork/join task steps without splitting
+    private final List<List<Animal>> groups; // The groups of animals participating in the race
+    private final boolean[] courierGroups; // Marks the groups that run a courier race
+    private final GroupCategory[] categories; // The category of every group, null if unknown
+    private final RelayCoordinator[] relays; // The baton of every courier group, null for regular groups
+    private final RaceState state; // The race state of all the animals, shared by the whole race
+    private final int[][] slots; // The slot of every animal in the race state
+    private final boolean[][] reported; // Marks the animals whose finish has already been published
+    private final List<List<FinishEvent>> pendingEvents; // The finish events of the current tick, per group
+    private ForkJoinPool pool; // The pool that steps the groups in parallel, or null for sequential stepping
+    private IFinishListener finishListener; // Notified when an animal finishes, may be null
+    private long tickCount = 0; // The number of ticks the engine has performed
+    private volatile RaceSnapshot snapshot; // The state of the animals after the last tick, read by the user interface
+    private volatile Thread writer; // The thread that owns the engine, the only one allowed to write and copy the animals
+
+    /**
+     * Constructs a RaceEngine for the specified groups.
+     * The competition type and group type lists are parallel to the groups list.
+     *
+     * @param groups The groups of animals participating in the race.
+     * @param competitionTypes The competition type of every group ("regular" or "courier").
+     * @param groupTypes The type of every group ("Air", "Water" or "Terrestrial").
+     */
+    public RaceEngine(List<List<Animal>> groups, List<String> competitionTypes, List<String> groupTypes) {
+        this.groups = groups;
+        this.courierGroups = new boolean[groups.size()];
+        this.categories = new GroupCategory[groups.size()];
+        this.relays = new RelayCoordinator[groups.size()];
+        this.reported = new boolean[groups.size()][];
+        this.slots = new int[groups.size()][];
+        this.pendingEvents = new ArrayList<>(groups.size());
+
+        int participants = 0;
+        for (List<Animal> group : groups) {
+            participants += group.size();
+        }
+        this.state = new RaceState(participants);
+
+        // Resolve the group information once, so the tick itself does not compare strings
+        for (int i = 0; i < groups.size(); i++) {
+            this.courierGroups[i] = CompetitionType.fromLabel(competitionTypes.get(i)) == CompetitionType.COURIER;
+            this.categories[i] = GroupCategory.fromLabel(groupTypes.get(i));
+            this.reported[i] = new boolean[groups.get(i).size()];
+            if (this.courierGroups[i]) {
+                this.relays[i] = new RelayCoordinator(groups.get(i).size());
+            }
+            this.pendingEvents.add(new ArrayList<>());
+
+            // Move the animals into the shared race state, the animals of a group get consecutive slots
+            List<Animal> group = groups.get(i);
+            this.slots[i] = new int[group.size()];
+            for (int animalIndex = 0; animalIndex < group.size(); animalIndex++) {
+                this.slots[i][animalIndex] = group.get(animalIndex).bindTo(state);
+            }
+        }
+        this.writer = Thread.currentThread();
+        this.snapshot = RaceSnapshot.capture(0, groups);
+    }
+
+    /**
+     * Sets the listener that is notified when an animal finishes.
+     *
+     * @param finishListener The listener to notify, or null to stop publishing finish events.
+     */
+    public void setFinishListener(IFinishListener finishListener) {
+        this.finishListener = finishListener;
+    }
+
+    /**
+     * Selects whether the groups are stepped in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param parallel true to step the groups in parallel, false to step them one after another.
+     */
+    public void setParallel(boolean parallel) {
+        setParallel(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Selects the pool that steps the groups in parallel.
+     *
+     * @param pool The pool to use, or null to step the groups one after another.
+     */
+    public void setParallel(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Checks if the groups are stepped in parallel.
+     *
+     * @return true if the engine uses a fork/join pool, false otherwise.
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Hands the engine over to the thread that resets and steps it from now on.
+     * The caller must make sure the new owner only uses the engine after this call, for example by starting
+     * the new owner or submitting a task to it afterwards.
+     *
+     * @param owner The thread that owns the engine from now on.
+     * @throws IllegalStateException If the calling thread does not own the engine.
+     */
+    public void handOver(Thread owner) {
+        checkWriter();
+        writer = owner;
+    }
+
+    /**
+     * Checks that the calling thread owns the engine.
+     *
+     * @throws IllegalStateException If the calling thread does not own the engine.
+     */
+    private void checkWriter() {
+        if (writer != Thread.currentThread()) {
+            throw new IllegalStateException("The race engine is owned by " + writer.getName());
+        }
+    }
+
+    /**
+     * Resets all the animals to the beginning of the race.
+     * Sets their total distance to 0, restores their energy and allows them to move again.
+     *
+     * @throws IllegalStateException If the calling thread does not own the engine.
+     */
+    public void reset() {
+        checkWriter();
+        for (int groupIndex = 0; groupIndex < groups.size(); groupIndex++) {
+            for (Animal animal : groups.get(groupIndex)) {
+                animal.setTotalDistance(0.0);
+                animal.reset();
+            }
+            Arrays.fill(reported[groupIndex], false);
+            if (relays[groupIndex] != null) {
+                relays[groupIndex].reset();
+            }
+            pendingEvents.get(groupIndex).clear();
+        }
+        tickCount = 0;
+        snapshot = snapshot.restart(tickCount); // The animals jump back to the start, do not interpolate
+    }
+
+    /**
+     * Performs a single tick of the race.
+     * Regular groups move every animal that has energy left, courier groups move their animals
+     * one after another, each animal starting once the previous one has covered its distance.
+     * The animals that stopped during the tick are published to the finish listener in group order.
+     *
+     * @return true if at least one animal moved during this tick, false otherwise.
+     * @throws IllegalStateException If the calling thread does not own the engine.
+     */
+    public boolean step() {
+        boolean moved;
+
+        checkWriter(); // The animals are written by the owner, and by the pool it waits for
+
+        if (pool != null && groups.size() > GROUPS_PER_TASK) {
+            moved = pool.invoke(new GroupStepTask(0, groups.size()));
+        } else {
+            moved = stepGroups(0, groups.size());
+        }
+
+        tickCount++;
+        publishFinished();
+        return moved;
+    }
+
+    /**
+     * Steps a range of groups one after another and collects their finish events.
+     *
+     * @param fromGroup The index of the first group to step.
+     * @param toGroup The index after the last group to step.
+     * @return true if at least one animal of these groups moved, false otherwise.
+     */
+    private boolean stepGroups(int fromGroup, int toGroup) {
+        boolean moved = false;
+
+        for (int groupIndex = fromGroup; groupIndex < toGroup; groupIndex++) {
+            if (courierGroups[groupIndex]) {
+                moved |= stepCourierGroup(groupIndex);
+            } else {
+                moved |= stepRegularGroup(groupIndex);
+            }
+            collectFinished(groupIndex);
+        }
+        return moved;
+    }
+
+    /**
+     * A fork/join task that steps a range of groups, splitting it in halves until it is small enough.
+     */
+    private class GroupStepTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+        private final int fromGroup; // The index of the first group to step
+        private final int toGroup; // The index after the last group to step
+
+        /**
+         * Constructs a task for the specified range of groups.
+         *
+         * @param fromGroup The index of the first group to step.
+         * @param toGroup The index after the last group to step.
+         */
+        GroupStepTask(int fromGroup, int toGroup) {
+            this.fromGroup = fromGroup;
+            this.toGroup = toGroup;
+        }
+
+        /**
+         * Steps the groups of this task.
+         *
+         * @return true if at least one animal of these groups moved, false otherwise.
+         */
+        @Override
+        protected Boolean compute() {
+            if (toGroup - fromGroup <= GROUPS_PER_TASK) {
+                return stepGroups(fromGroup, toGroup);
+            }
+            int middle = (fromGroup + toGroup) >>> 1;
+            GroupStepTask left = new GroupStepTask(fromGroup, middle);
+            left.fork();
+            boolean rightMoved = new GroupStepTask(middle, toGroup).compute();
+            return left.join() | rightMoved;
+        }
+    }
+
+    /**
+     * Collects a finish event for every animal of a group that stopped moving and was not reported yet.
+     *
+     * @param groupIndex The index of the group to check.
+     */
+    private void collectFinished(int groupIndex) {
+        if (finishListener == null) {
+            return;
+        }
+        List<Animal> group = groups.get(groupIndex);
+        boolean[] groupReported = reported[groupIndex];
+
+        long finishNanos = TimeUnit.MILLISECONDS.toNanos(getElapsedMillis() + TICK_MILLIS); // The end of the current tick
+
+        for (int animalIndex = 0; animalIndex < group.size(); animalIndex++) {
+            Animal animal = group.get(animalIndex);
+            if (!groupReported[animalIndex] && !animal.canMove()) {
+                groupReported[animalIndex] = true;
+                pendingEvents.get(groupIndex).add(new FinishEvent(animal, finishNanos));
+            }
+        }
+    }
+
+    /**
+     * Publishes the finish events collected during the current tick to the finish listener, in group order.
+     */
+    private void publishFinished() {
+        if (finishListener == null) {
+            return;
+        }
+        // Publish group after group, so the order does not depend on which thread stepped which group
+        for (List<FinishEvent> groupEvents : pendingEvents) {
+            for (FinishEvent event : groupEvents) {
+                finishListener.onFinish(event);
+            }
+            groupEvents.clear();
+        }
+    }
+
+    /**
+     * Moves every animal of a regular group one step forward.
+     * Animals on a straight track are moved directly in the race state arrays.
+     *
+     * @param groupIndex The index of the group to move.
+     * @return true if at least one animal moved, false otherwise.
+     */
+    private boolean stepRegularGroup(int groupIndex) {
+        List<Animal> group = groups.get(groupIndex);
+        int[] groupSlots = slots[groupIndex];
+        boolean moved = false;
+
+        for (int animalIndex = 0; animalIndex < groupSlots.length; animalIndex++) {
+            int slot = groupSlots[animalIndex];
+            if (state.getEnergy(slot) > 0 && advance(group.get(animalIndex), slot)) {
+                moved = true;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Moves a single animal one step forward, using the race state arrays when the animal runs on a straight track.
+     *
+     * @param animal The animal to move.
+     * @param slot The slot of the animal in the race state.
+     * @return true if the animal moved, false otherwise.
+     */
+    private boolean advance(Animal animal, int slot) {
+        if (state.isStraight(slot)) {
+            return state.advanceStraight(slot);
+        }
+        return animal.advance();
+    }
+
+    /**
+     * Moves the animals of a courier group.
+     * Terrestrial groups run from the first animal forwards, the other groups run from the last animal
+     * backwards. Only the animal of the leg that holds the baton of the group's {@link RelayCoordinator} moves.
+     * As soon as it covers its needed distance, or can no longer move, it hands the baton to the next leg,
+     * which starts moving in the same tick.
+     *
+     * @param groupIndex The index of the group to move.
+     * @return true if at least one animal moved, false otherwise.
+     */
+    private boolean stepCourierGroup(int groupIndex) {
+        List<Animal> group = groups.get(groupIndex);
+        int[] groupSlots = slots[groupIndex];
+        GroupCategory category = categories[groupIndex];
+        RelayCoordinator relay = relays[groupIndex];
+        boolean forwards = category == GroupCategory.TERRESTRIAL; // Terrestrial relays start with the first animal
+        boolean moved = false;
+
+        for (int leg = relay.getCurrentLeg(); leg >= 0; leg = relay.getCurrentLeg()) {
+            int animalIndex = forwards ? leg : group.size() - 1 - leg;
+            Animal animal = group.get(animalIndex);
+            int slot = groupSlots[animalIndex];
+
+            if (forwards && animalIndex == 3 && animal.getX() == 0 && animal.getY() == 4) {
+                animal.stopMoving(); // The last animal is back at the start of the terrestrial track
+            }
+
+            if (state.getEnergy(slot) > 0 && animal.canMove()) {
+                if (advance(animal, slot)) {
+                    moved = true;
+                }
+                if (state.getTotalDistance(slot) < neededDistance(category, group.size(), animalIndex)) {
+                    break; // This leg is still running
+                }
+                animal.stopMoving();
+            }
+            relay.handOff(leg, getElapsedMillis() + TICK_MILLIS); // The leg is over, the next animal starts in this tick
+        }
+        return moved;
+    }
+
+    /**
+     * Retrieves the baton of a courier group.
+     *
+     * @param groupIndex The index of the group.
+     * @return The RelayCoordinator of the group, or null if the group runs a regular race.
+     */
+    public RelayCoordinator getRelay(int groupIndex) {
+        return relays[groupIndex];
+    }
+
+    /**
+     * Checks if the race is over, meaning no animal in any group can move anymore.
+     *
+     * @return true if all the animals stopped moving, false otherwise.
+     */
+    public boolean isFinished() {
+        for (List<Animal> group : groups) {
+            for (Animal animal : group) {
+                if (animal.canMove()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the race as fast as possible until it is finished, no animal moves anymore,
+     * or the maximum number of ticks has been reached.
+     *
+     * @param maxTicks The maximum number of ticks to perform.
+     * @return The number of ticks that were performed.
+     */
+    public long runToCompletion(long maxTicks) {
+        long startTick = tickCount;
+        while (tickCount - startTick < maxTicks && !isFinished()) {
+            if (!step()) {
+                break; // Nobody moved, the race cannot progress anymore
+            }
+        }
+        return tickCount - startTick;
+    }
+
+    /**
+     * Retrieves the number of ticks the engine has performed since the last reset.
+     *
+     * @return The number of ticks.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Retrieves the simulated time that passed since the last reset.
+     *
+     * @return The elapsed time in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return tickCount * TICK_MILLIS;
+    }
+
+    /**
+     * Takes a snapshot of the current state of the animals and publishes it to the renderers.
+     * The renderers interpolate the animals between the previous published snapshot and this one.
+     * Only the thread that steps the engine may publish, since no other thread is guaranteed to see the latest tick.
+     *
+     * @return The published RaceSnapshot.
+     * @throws IllegalStateException If the calling thread does not own the engine.
+     */
+    public RaceSnapshot publishSnapshot() {
+        checkWriter();
+        snapshot = snapshot.next(tickCount);
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the last published snapshot. This method may be called from any thread.
+     *
+     * @return The latest published RaceSnapshot of the race.
+     */
+    public RaceSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the race state that holds the movement fields of all the animals of this engine.
+     *
+     * @return The shared RaceState.
+     */
+    public RaceState getRaceState() {
+        return state;
+    }
+
+    /**
+     * Retrieves the groups of animals this engine moves.
+     *
+     * @return The list of animal groups.
+     */
+    public List<List<Animal>> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Calculates the needed distance for an animal in a specific group and position.
+     * The distance is based on the group type (Air, Water, Terrestrial) and the animal's position in the group.
+     *
+     * @param group The group the animal belongs to.
+     * @param groupType The type of the group (Air, Water, Terrestrial).
+     * @param animalIndex The index of the animal within the group.
+     * @return The needed distance that the animal must travel to complete the race.
+     */
+    public static double calculateNeededDistance(List<Animal> group, String groupType, int animalIndex) {
+        return neededDistance(GroupCategory.fromLabel(groupType), group.size(), animalIndex);
+    }
+
+    /**
+     * Calculates the needed distance for an animal of a group whose category is already resolved.
+     *
+     * @param category The category of the group, or null if unknown.
+     * @param groupSize The number of animals in the group.
+     * @param animalIndex The index of the animal within the group.
+     * @return The needed distance that the animal must travel to complete the race.
+     */
+    static double neededDistance(GroupCategory category, int groupSize, int animalIndex) {
+        return category == null ? GroupCategory.UNKNOWN_DISTANCE : category.neededDistance(groupSize, animalIndex);
+    }
+}
@@ -0,0 +1,237 @@
+package Competitions;
+
+import Animals.Animal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The RaceLifecycle class keeps track of everything that still has to finish before a race is over.
+ * Race participants, referees and tournament runners register when they are created and arrive when they are done,
+ * so checking whether any of them is still running is a single read instead of a search through the threads of the JVM.
+ *
+ * Every role is tracked by its own {@link Phaser}. The lifecycle itself holds one party of every phaser,
+ * so a phaser never terminates while the race is running, and a role is done once only that party is left.
+ * Large rosters are spread over child phasers, because a single phaser supports a limited number of parties.
+ *
+ * The lifecycle also holds the {@link IRaceClock} of the race, which the components take their waits from.
+ * The clock of a race started without one is chosen by the system property {@code race.clock}
+ * ({@code real} or {@code simulated}).
+ *
+ * A race can be driven by a {@link RaceEngine}. The engine is then the only component that moves the animals
+ * and publishes their finish events. The participants of such a race are not started at all: they listen on the
+ * lifecycle, which passes the finish event of the engine to the participant of the animal that finished.
+ */
+public class RaceLifecycle implements IFinishListener {
+    private static final int TIER_SIZE = 10000; // The number of parties registered with a single child phaser
+    private static volatile RaceLifecycle current = new RaceLifecycle(RealRaceClock.getInstance()); // The lifecycle of the current race
+
+    private final Map<Role, Tracker> trackers = new EnumMap<>(Role.class); // The tracker of every role
+    private final IRaceClock clock; // The clock the components of the race wait on
+    private volatile boolean engineDriven = false; // Marks that an engine moves the animals of the race
+    private final Map<Integer, IFinishListener> finishListeners = new ConcurrentHashMap<>(); // The participants waiting for the engine, by animal ID
+
+    /**
+     * The kinds of race components that are tracked.
+     */
+    public enum Role {
+        PARTICIPANT, REFEREE, TOURNAMENT
+    }
+
+    /**
+     * The registration of a single component. Arriving more than once has no effect.
+     */
+    public static class Registration {
+        private final Phaser phaser; // The phaser the component is registered with
+        private final AtomicBoolean arrived = new AtomicBoolean(false); // Marks that the component is done
+
+        private Registration(Phaser phaser) {
+            this.phaser = phaser;
+        }
+
+        /**
+         * Marks the component as done.
+         *
+         * @return true if this call marked the component as done, false if it was already done.
+         */
+        public boolean arrive() {
+            if (!arrived.compareAndSet(false, true)) {
+                return false;
+            }
+            phaser.arriveAndDeregister();
+            return true;
+        }
+
+        public boolean hasArrived() {
+            return arrived.get();
+        }
+    }
+
+    /**
+     * Tracks the components of a single role.
+     */
+    private static class Tracker {
+        private final Phaser root = new Phaser(1); // The party of the lifecycle keeps the phaser alive
+        private Phaser tier; // The child phaser new components are registered with
+        private int tierRegistrations = 0; // The number of components registered with the current child phaser
+
+        private synchronized Registration register() {
+            if (tier == null || tierRegistrations == TIER_SIZE) {
+                tier = new Phaser(root);
+                tierRegistrations = 0;
+            }
+            tier.register();
+            tierRegistrations++;
+            return new Registration(tier);
+        }
+
+        private boolean isRunning() {
+            return root.getRegisteredParties() > 1; // Only the party of the lifecycle is left once all are done
+        }
+    }
+
+    private RaceLifecycle(IRaceClock clock) {
+        this.clock = clock;
+        for (Role role : Role.values()) {
+            trackers.put(role, new Tracker());
+        }
+    }
+
+    /**
+     * Starts tracking a new race on the clock selected by the {@code race.clock} system property.
+     * Components registered with the previous race no longer count.
+     *
+     * @return The lifecycle of the new race.
+     */
+    public static RaceLifecycle begin() {
+        return begin(clockFromProperty());
+    }
+
+    /**
+     * Starts tracking a new race on the specified clock. Components registered with the previous race no longer count.
+     *
+     * @param clock The clock of the new race. It cannot be null.
+     * @return The lifecycle of the new race.
+     */
+    public static RaceLifecycle begin(IRaceClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Race clock cannot be null");
+        }
+        RaceLifecycle lifecycle = new RaceLifecycle(clock);
+        current = lifecycle;
+        return lifecycle;
+    }
+
+    /**
+     * Reads the clock of a new race from the {@code race.clock} system property.
+     * Falls back to the real clock if the property is missing or invalid. Every simulated race gets its own clock.
+     *
+     * @return The clock of the new race.
+     */
+    private static IRaceClock clockFromProperty() {
+        String value = System.getProperty("race.clock", "real").trim();
+        if (value.equalsIgnoreCase("simulated")) {
+            return new SimulatedRaceClock();
+        }
+        if (!value.equalsIgnoreCase("real")) {
+            System.err.println("Unknown race clock " + value + ", using real");
+        }
+        return RealRaceClock.getInstance();
+    }
+
+    /**
+     * Retrieves the lifecycle of the current race.
+     *
+     * @return The current RaceLifecycle.
+     */
+    public static RaceLifecycle getCurrent() {
+        return current;
+    }
+
+    /**
+     * Retrieves the clock of the race.
+     *
+     * @return The IRaceClock the components of the race wait on.
+     */
+    public IRaceClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Marks whether an engine moves the animals of the race. Must be called before the participants are created.
+     *
+     * @param engineDriven true if a {@link RaceEngine} will move the animals, false if the participants move them.
+     */
+    public void setEngineDriven(boolean engineDriven) {
+        this.engineDriven = engineDriven;
+    }
+
+    /**
+     * Checks if an engine moves the animals of the race.
+     *
+     * @return true if the engine finishes the participants, false if they move their animals.
+     */
+    public boolean isEngineDriven() {
+        return engineDriven;
+    }
+
+    /**
+     * Registers the participant of an animal of an engine driven race, to be notified when the engine finishes the animal.
+     *
+     * @param animal The animal the engine moves.
+     * @param listener The participant to notify.
+     */
+    public void addFinishListener(Animal animal, IFinishListener listener) {
+        finishListeners.put(animal.getId(), listener);
+    }
+
+    /**
+     * Passes a finish event of the engine to the participant of the animal that finished.
+     * Only the first event of an animal is passed on.
+     *
+     * @param event The event describing the animal that finished.
+     */
+    @Override
+    public void onFinish(FinishEvent event) {
+        IFinishListener listener = finishListeners.remove(event.getAnimal().getId());
+        if (listener != null) {
+            listener.onFinish(event);
+        }
+    }
+
+    /**
+     * Registers a component that has to finish before the race is over.
+     *
+     * @param role The role of the component.
+     * @return The registration the component arrives on when it is done.
+     */
+    public Registration register(Role role) {
+        return trackers.get(role).register();
+    }
+
+    /**
+     * Checks if any component of a role has not finished yet.
+     *
+     * @param role The role to check.
+     * @return true if at least one registered component of the role is still running, false otherwise.
+     */
+    public boolean isRunning(Role role) {
+        return trackers.get(role).isRunning();
+    }
+
+    /**
+     * Checks if any registered component of the race has not finished yet.
+     *
+     * @return true if at least one component is still running, false otherwise.
+     */
+    public boolean isRunning() {
+        for (Role role : Role.values()) {
+            if (isRunning(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,198 @@
+package Competitions;
+
+import Animals.Animal;
+import Mobility.RaceState;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RaceSnapshot class is an immutable copy of the state of all the animals of a race at the end of a tick.
+ * The {@link RaceEngine} publishes a new snapshot after every tick through a single volatile reference,
+ * so the user interface can paint and fill its tables from a consistent state at its own rate,
+ * without locking the animals and without seeing an animal halfway through a move.
+ *
+ * Every snapshot also keeps the positions of the snapshot published before it, so a renderer that paints more often
+ * than the race is simulated can interpolate the animals between the two ticks instead of letting them jump.
+ *
+ * Snapshots of the same race share the array of animals and the index from an animal to its position,
+ * since the participants of a race do not change. The copied values are never modified after the snapshot is created.
+ *
+ * A snapshot reads the animals without any synchronization, so it must be taken by the only thread that writes them:
+ * the thread that steps the {@link RaceEngine}. The engine enforces this, and the readers see the copied values
+ * through the volatile reference the engine publishes the snapshot with.
+ */
+public final class RaceSnapshot {
+    private final long tick; // The tick the snapshot was taken after
+    private final long nanoTime; // The time the snapshot was taken, as returned by System.nanoTime()
+    private final Animal[] animals; // The animals of the race, shared by the snapshots of the race
+    private final Map<Animal, Integer> indexes; // The position of every animal, shared by the snapshots of the race
+    private final int[] x; // The X coordinate of every animal
+    private final int[] y; // The Y coordinate of every animal
+    private final Animal.Orientation[] orientations; // The orientation of every animal
+    private final int[] energy; // The energy of every animal
+    private final int[] energyPerMeter; // The energy every animal consumes per meter
+    private final double[] totalDistance; // The distance every animal has traveled
+    private final boolean[] canMove; // Marks the animals that are still allowed to move
+    private final int[] previousX; // The X coordinate of every animal in the previous snapshot
+    private final int[] previousY; // The Y coordinate of every animal in the previous snapshot
+    private final long previousNanoTime; // The time the previous snapshot was taken
+
+    /**
+     * Constructs a snapshot by copying the current state of the animals.
+     *
+     * @param tick The tick the snapshot is taken after.
+     * @param animals The animals of the race.
+     * @param indexes The position of every animal in the array.
+     * @param previous The snapshot published before this one, or null if the animals should not be interpolated.
+     */
+    private RaceSnapshot(long tick, Animal[] animals, Map<Animal, Integer> indexes, RaceSnapshot previous) {
+        this.tick = tick;
+        this.nanoTime = System.nanoTime();
+        this.animals = animals;
+        this.indexes = indexes;
+        this.x = new int[animals.length];
+        this.y = new int[animals.length];
+        this.orientations = new Animal.Orientation[animals.length];
+        this.energy = new int[animals.length];
+        this.energyPerMeter = new int[animals.length];
+        this.totalDistance = new double[animals.length];
+        this.canMove = new boolean[animals.length];
+
+        for (int i = 0; i < animals.length; i++) {
+            Animal animal = animals[i];
+            RaceState state = animal.getRaceState(); // Read the slot directly, without creating a Point
+            int slot = animal.getSlot();
+            x[i] = state.getX(slot);
+            y[i] = state.getY(slot);
+            orientations[i] = animal.getOrientation();
+            energy[i] = state.getEnergy(slot);
+            energyPerMeter[i] = state.getEnergyPerMeter(slot);
+            totalDistance[i] = state.getTotalDistance(slot);
+            canMove[i] = state.canMove(slot);
+        }
+
+        // Only the positions of the previous snapshot are kept, so the snapshots do not form a chain
+        this.previousX = previous == null ? x : previous.x;
+        this.previousY = previous == null ? y : previous.y;
+        this.previousNanoTime = previous == null ? nanoTime : previous.nanoTime;
+    }
+
+    /**
+     * Takes the first snapshot of a race. Use {@link #next(long)} for the following snapshots of the same race.
+     *
+     * @param tick The tick the snapshot is taken after.
+     * @param groups The groups of animals of the race.
+     * @return The new snapshot.
+     */
+    public static RaceSnapshot capture(long tick, List<List<Animal>> groups) {
+        int count = 0;
+        for (List<Animal> group : groups) {
+            count += group.size();
+        }
+        Animal[] animals = new Animal[count];
+        Map<Animal, Integer> indexes = new IdentityHashMap<>(count);
+        int index = 0;
+        for (List<Animal> group : groups) {
+            for (Animal animal : group) {
+                animals[index] = animal;
+                indexes.put(animal, index++);
+            }
+        }
+        return new RaceSnapshot(tick, animals, Collections.unmodifiableMap(indexes), null);
+    }
+
+    /**
+     * Takes a new snapshot of the same animals as this snapshot. The animals are interpolated from this snapshot.
+     *
+     * @param tick The tick the snapshot is taken after.
+     * @return The new snapshot.
+     */
+    public RaceSnapshot next(long tick) {
+        return new RaceSnapshot(tick, animals, indexes, this);
+    }
+
+    /**
+     * Takes a new snapshot of the same animals as this snapshot, without interpolating from this snapshot.
+     * Used when the animals jump, for example when the race is reset.
+     *
+     * @param tick The tick the snapshot is taken after.
+     * @return The new snapshot.
+     */
+    public RaceSnapshot restart(long tick) {
+        return new RaceSnapshot(tick, animals, indexes, null);
+    }
+
+    public long getTick() { return tick; }
+
+    public long getNanoTime() { return nanoTime; }
+
+    public int size() { return animals.length; }
+
+    /**
+     * Finds the position of an animal in the snapshot.
+     *
+     * @param animal The animal to find.
+     * @return The index of the animal, or -1 if the animal is not part of the race.
+     */
+    public int indexOf(Animal animal) {
+        Integer index = indexes.get(animal);
+        return index == null ? -1 : index;
+    }
+
+    public Animal getAnimal(int index) { return animals[index]; }
+
+    public int getX(int index) { return x[index]; }
+
+    public int getY(int index) { return y[index]; }
+
+    public Animal.Orientation getOrientation(int index) { return orientations[index]; }
+
+    public int getEnergy(int index) { return energy[index]; }
+
+    public int getEnergyPerMeter(int index) { return energyPerMeter[index]; }
+
+    public double getTotalDistance(int index) { return totalDistance[index]; }
+
+    public boolean canMove(int index) { return canMove[index]; }
+
+    /**
+     * Calculates how far a frame painted at the specified time is between the previous snapshot and this one.
+     * The renderer paints one tick behind the simulation: a frame painted when this snapshot was published shows
+     * the previous positions, and a frame painted one tick interval later shows the positions of this snapshot.
+     *
+     * @param frameNanoTime The time of the frame, as returned by {@link System#nanoTime()}.
+     * @return The interpolation factor between 0 (previous positions) and 1 (positions of this snapshot).
+     */
+    public double interpolationAlpha(long frameNanoTime) {
+        long interval = nanoTime - previousNanoTime;
+        if (interval <= 0) {
+            return 1; // Nothing to interpolate from
+        }
+        double alpha = (double) (frameNanoTime - nanoTime) / interval;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    /**
+     * Retrieves the X coordinate of an animal between the previous snapshot and this one.
+     *
+     * @param index The index of the animal.
+     * @param alpha The interpolation factor, as returned by {@link #interpolationAlpha(long)}.
+     * @return The interpolated X coordinate.
+     */
+    public int getInterpolatedX(int index, double alpha) {
+        return (int) Math.round(previousX[index] + (x[index] - previousX[index]) * alpha);
+    }
+
+    /**
+     * Retrieves the Y coordinate of an animal between the previous snapshot and this one.
+     *
+     * @param index The index of the animal.
+     * @param alpha The interpolation factor, as returned by {@link #interpolationAlpha(long)}.
+     * @return The interpolated Y coordinate.
+     */
+    public int getInterpolatedY(int index, double alpha) {
+        return (int) Math.round(previousY[index] + (y[index] - previousY[index]) * alpha);
+    }
+}
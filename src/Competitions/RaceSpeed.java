@@ -0,0 +1,122 @@
+package Competitions;
+
+/**
+ * Enum representing how fast a race is simulated compared to the wall clock.
+ * <ul>
+ *   <li>X1: the race runs in real time.</li>
+ *   <li>X10 and X100: the race runs 10 or 100 times faster than real time.</li>
+ *   <li>UNBOUNDED: the race runs as fast as the CPU allows.</li>
+ * </ul>
+ * The speed only changes how much wall clock time a step of the race takes, never the steps themselves,
+ * and the finish times are measured in simulated race time, so a race gives the same results at any speed.
+ * The initial speed can be chosen with the system property {@code race.speed}, for example {@code 10x} or {@code UNBOUNDED}.
+ */
+public enum RaceSpeed {
+    X1(1, "1x"), X10(10, "10x"), X100(100, "100x"), UNBOUNDED(0, "Unbounded");
+
+    private static volatile RaceSpeed current = fromProperty(); // The speed of the races
+
+    private final int multiplier; // The simulated time that passes in one unit of wall clock time, 0 if unbounded
+    private final String label; // The name shown to the user
+
+    /**
+     * Constructs a RaceSpeed with the specified multiplier and label.
+     *
+     * @param multiplier The number of simulated milliseconds per wall clock millisecond, 0 for no limit.
+     * @param label The name shown to the user.
+     */
+    RaceSpeed(int multiplier, String label) {
+        this.multiplier = multiplier;
+        this.label = label;
+    }
+
+    /**
+     * Retrieves the speed that is currently selected.
+     *
+     * @return The current race speed.
+     */
+    public static RaceSpeed getCurrent() {
+        return current;
+    }
+
+    /**
+     * Selects the speed of the races. The speed can be changed while a race is running.
+     *
+     * @param speed The new race speed. It cannot be null.
+     */
+    public static void setCurrent(RaceSpeed speed) {
+        if (speed == null) {
+            throw new IllegalArgumentException("Race speed cannot be null");
+        }
+        current = speed;
+    }
+
+    public int getMultiplier() {
+        return multiplier;
+    }
+
+    public boolean isUnbounded() {
+        return this == UNBOUNDED;
+    }
+
+    /**
+     * Calculates how much simulated time passes during a period of wall clock time.
+     *
+     * @param wallMillis The wall clock time in milliseconds.
+     * @return The simulated time in milliseconds, or Long.MAX_VALUE if the speed is unbounded.
+     */
+    public long toSimulatedMillis(long wallMillis) {
+        return isUnbounded() ? Long.MAX_VALUE : wallMillis * multiplier;
+    }
+
+    /**
+     * Calculates how much wall clock time a period of simulated time takes.
+     *
+     * @param simulatedMillis The simulated time in milliseconds.
+     * @return The wall clock time in milliseconds, 0 if the speed is unbounded.
+     */
+    public long toWallMillis(long simulatedMillis) {
+        return isUnbounded() ? 0 : simulatedMillis / multiplier;
+    }
+
+    /**
+     * Pauses the calling thread for the wall clock time a period of simulated time takes at this speed.
+     * When the speed is unbounded or the period is shorter than a millisecond, the thread only yields to the others.
+     *
+     * @param simulatedMillis The simulated time in milliseconds.
+     * @throws InterruptedException If the thread is interrupted while sleeping.
+     */
+    public void pause(long simulatedMillis) throws InterruptedException {
+        long wallMillis = toWallMillis(simulatedMillis);
+        if (wallMillis > 0) {
+            Thread.sleep(wallMillis);
+        } else {
+            Thread.yield();
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    /**
+     * Reads the initial speed from the {@code race.speed} system property.
+     * Both the labels ("10x") and the names ("X10") are accepted. Falls back to X1 if the property is missing or invalid.
+     *
+     * @return The initial race speed.
+     */
+    private static RaceSpeed fromProperty() {
+        String value = System.getProperty("race.speed", X1.label);
+        for (RaceSpeed speed : values()) {
+            if (speed.label.equalsIgnoreCase(value.trim()) || speed.name().equalsIgnoreCase(value.trim())) {
+                return speed;
+            }
+        }
+        System.err.println("Unknown race speed " + value + ", using " + X1);
+        return X1;
+    }
+}
@@ -0,0 +1,40 @@
+package Competitions;
+
+/**
+ * The RealRaceClock class is the clock of a race that runs in real time.
+ * Its time is {@link System#nanoTime()}, and a wait takes the wall clock time the period takes at the current
+ * {@link RaceSpeed}, so a fast-forwarded race waits less while it still takes the same steps.
+ */
+public class RealRaceClock implements IRaceClock {
+    private static RealRaceClock instance; // The clock shared by all the real time races
+
+    private RealRaceClock() {
+    }
+
+    /**
+     * Retrieves the clock shared by all the real time races, creating it on first use.
+     *
+     * @return The RealRaceClock instance.
+     */
+    public static synchronized RealRaceClock getInstance() {
+        if (instance == null) {
+            instance = new RealRaceClock();
+        }
+        return instance;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        RaceSpeed.getCurrent().pause(millis);
+    }
+
+    @Override
+    public boolean isSimulated() {
+        return false;
+    }
+}
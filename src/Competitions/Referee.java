@@ -1,114 +1,73 @@
 package Competitions;
 
 import Animals.Animal;
-import Graphics.AnimalTableModel;
-import Graphics.AnimalThread;
-import Graphics.CompetitionFrame;
-import Graphics.Tick;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * The Referee class represents a referee that monitors the progress of a specific group in a tournament.
- * The referee checks if any animal in the group has finished its race, updates the scores accordingly, and signals when the group has completed its race.
- * The Referee class runs as a separate thread, continuously checking the status of the animals in its assigned group.
+ * The referee is told by the {@link RefereeService} whenever an animal of its group finishes, updates the scores
+ * in the {@link ScoreStore} once the whole group has finished, and signals that the group has completed its race.
+ * The referee does not run on a thread of its own and never polls the animals.
  */
-public class Referee implements Runnable {
-    private static int refereeCount = 0; // Static variable to count the number of Referees
+public class Referee {
+    private final int groupId; // ID of the group the referee is waiting for
     private final String groupName; // Name of the group the referee is waiting for
-    private final AtomicBoolean finishFlag = new AtomicBoolean(false); // Unique flag for each team
-    private final String competitionType;
-    private Thread thread;
+    private final CompetitionType type; // The type of competition as an enum
+    private final String competitionType; // The type of competition (regular/courier)
+    private final List<Animal> group; // The animals of the group
+    private final Set<Integer> finishedAnimals = new HashSet<>(); // The IDs of the animals that already finished
+    private volatile boolean finished = false; // Marks that the whole group has finished
+    private final RaceLifecycle.Registration lifecycle; // Tells the race when the group is done
 
     /**
-     * Constructs a Referee with the specified group name and competition type.
+     * Constructs a Referee for a group of the {@link GroupRegistry}.
      *
-     * @param groupName The name of the group to wait for.
-     * @param competitionType The type of competition (regular/courier).
+     * @param group The group to wait for.
      */
-    public Referee(String groupName, String competitionType) {
-        this.groupName = groupName;
-        this.competitionType = competitionType;
-        this.thread = new Thread(this);
-
-        synchronized (Referee.class) {
-            refereeCount++; // Increment the counter when a new Referee is created
-            //System.out.println("Current number of Referees: " + refereeCount); // Print the number of Referees
-        }
+    public Referee(AnimalGroup group) {
+        this.groupId = group.getId();
+        this.groupName = group.getName();
+        this.type = group.getCompetitionType();
+        this.competitionType = type.getLabel();
+        this.group = group.getAnimals();
+        this.lifecycle = RaceLifecycle.getCurrent().register(RaceLifecycle.Role.REFEREE);
     }
 
     /**
-     * The main run method for the Referee thread. It continuously checks if an animal in the group has finished,
-     * and if so, it updates the scores and stops the thread.
+     * Records that an animal of the group has finished. Once all the animals of the group
+     * have finished, the finish time of the event is recorded as the score of the group.
+     * The same animal may be reported more than once, only the first report counts.
+     *
+     * @param event The event describing the animal that finished.
+     * @return true if this event completed the group, false otherwise.
      */
-    @Override
-    public void run() {
-        while (!Thread.currentThread().isInterrupted()) {
-            if (hasAnimalArrived()) {
-
-                // Pass the score information to the CompetitionFrame
-                CompetitionFrame.addScore(groupName);
-
-                // finishFlag.set(true); // Mark the finishFlag as true for this group
-                break; // Exit the loop after adding
-            }
+    synchronized boolean recordFinish(FinishEvent event) {
+        if (finished || !finishedAnimals.add(event.getAnimal().getId())) {
+            return false;
+        }
 
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt(); // Restore interrupt status
-                return;
+        for (Animal animal : group) {
+            if (!finishedAnimals.contains(animal.getId())) {
+                return false; // Still waiting for this animal
             }
         }
 
-        synchronized (Referee.class) {
-            refereeCount--; // Decrement the counter when a Referee thread finishes
-            //System.out.println("Referee finished. Current number of Referees: " + refereeCount);
-        }
+        // Record the finish time of the last animal as the score of the group
+        ScoreStore.getInstance().record(groupId, type, event.getRaceNanos());
+        finished = true;
+        lifecycle.arrive();
+        return true;
     }
 
     /**
-     * Checks if the specified group's animal has arrived at its destination.
+     * Retrieves the ID of the group this Referee is responsible for.
      *
-     * @return true if the animal has arrived, false otherwise.
+     * @return The group ID.
      */
-    private boolean hasAnimalArrived() {
-        AnimalThread[] regularAnimalThreads = RegularTournament.getAnimalThreads();
-        AnimalThread[][] courierAnimalThreads = CourierTournament.getAnimalThreads();
-        int groupIndex = AnimalTableModel.getGroupIndex(groupName); // Get the index of the current group by its name
-
-        double tolerance = 100; // Tolerance level to account for floating-point precision issues
-        double courierTolerance = 15;
-        if (competitionType.equals("regular")) {
-            // Check only for the current group in the regular competition
-            if (groupIndex >= 0 && groupIndex < regularAnimalThreads.length) {
-                Animal animal = regularAnimalThreads[groupIndex].getParticipant();
-
-                if (Math.abs(animal.getTotalDistance() - animal.getNeededDistance()) < tolerance) {
-                    return true; // The animal has arrived for this group
-                }
-            }
-        }  else if (competitionType.equals("courier")) {
-            for (AnimalThread[] courierAnimalThread : courierAnimalThreads) {
-                // Ensure that the courierAnimalThread array is not null and has at least one element
-                if (courierAnimalThread != null && courierAnimalThread.length > 0) {
-                    int lastIndex = courierAnimalThread.length - 1;
-
-                    // Ensure the first AnimalThread is not null
-                    if (courierAnimalThread[0] != null) {
-
-                        if (Math.abs(courierAnimalThread[0].getParticipant().getTotalDistance() -
-                                Tick.calculateNeededDistance(AnimalTableModel.getGroupIndex(groupName),
-                                        courierAnimalThread[0].getParticipant().getCategoryFromAnimal(),
-                                        0)) < courierTolerance) {
-                            return true; // Last animal in the courier group has arrived
-                        }
-                    } else {
-                        //System.err.println("Error: courierAnimalThread[" + lastIndex + "] is null.");
-                    }
-                }
-            }
-        }
-        return false; // No animal has arrived yet for this group
+    public int getGroupId() {
+        return groupId;
     }
 
     /**
@@ -121,18 +80,29 @@ public class Referee implements Runnable {
     }
 
     /**
-     * Retrieves the thread associated with this Referee.
+     * Retrieves the type of competition this Referee is responsible for.
+     *
+     * @return The competition type (regular/courier).
+     */
+    public String getCompetitionType() {
+        return competitionType;
+    }
+
+    /**
+     * Retrieves the animals of the group this Referee is responsible for.
      *
-     * @return The Thread object.
+     * @return The list of animals.
      */
-    public Thread getThread() {
-        return thread;
+    public List<Animal> getGroup() {
+        return group;
     }
 
     /**
-     * Starts the Referee's thread, initiating the process of monitoring the group's progress.
+     * Checks if the whole group of this Referee has finished.
+     *
+     * @return true if the group has finished, false otherwise.
      */
-    public void start() {
-        thread.start();
+    public boolean isFinished() {
+        return finished;
     }
 }
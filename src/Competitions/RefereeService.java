@@ -0,0 +1,98 @@
+package Competitions;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The RefereeService class is the single consumer of the finish events of a race.
+ * The movement step publishes a {@link FinishEvent} as soon as an animal finishes, and the service
+ * hands it over to the referee of the animal's group on its own thread. No referee has to poll the animals.
+ */
+public class RefereeService implements IFinishListener {
+    private static RefereeService instance; // The service shared by the whole application
+    private final BlockingQueue<FinishEvent> events = new LinkedBlockingQueue<>(); // Events waiting to be handled
+    private final Map<Integer, Referee> refereesByAnimalId = new ConcurrentHashMap<>(); // The referee of every animal
+    private final AtomicInteger waitingReferees = new AtomicInteger(0); // Referees whose group has not finished
+
+    /**
+     * Constructs the RefereeService and starts the thread that consumes the finish events.
+     */
+    private RefereeService() {
+        Thread consumer = new Thread(this::consumeEvents, "RefereeService");
+        consumer.setDaemon(true); // The service should not keep the application alive
+        consumer.start();
+    }
+
+    /**
+     * Retrieves the service shared by the whole application, creating it on first use.
+     *
+     * @return The RefereeService instance.
+     */
+    public static synchronized RefereeService getInstance() {
+        if (instance == null) {
+            instance = new RefereeService();
+        }
+        return instance;
+    }
+
+    /**
+     * Removes all the referees of the previous race.
+     */
+    public void reset() {
+        refereesByAnimalId.clear();
+        waitingReferees.set(0);
+    }
+
+    /**
+     * Registers a referee, so the finish events of the animals of its group are passed to it.
+     *
+     * @param referee The referee to register.
+     */
+    public void register(Referee referee) {
+        referee.getGroup().forEach(animal -> refereesByAnimalId.put(animal.getId(), referee));
+        waitingReferees.incrementAndGet();
+    }
+
+    /**
+     * Publishes a finish event. The event is handled asynchronously by the service thread.
+     *
+     * @param event The event describing the animal that finished.
+     */
+    @Override
+    public void onFinish(FinishEvent event) {
+        events.offer(event);
+    }
+
+    /**
+     * Checks if there are referees whose group has not finished yet.
+     *
+     * @return true if at least one registered referee is still waiting, false otherwise.
+     */
+    public boolean hasWaitingReferees() {
+        return waitingReferees.get() > 0;
+    }
+
+    /**
+     * The main loop of the service thread. Takes the finish events one by one and
+     * passes each of them to the referee of the animal that finished.
+     */
+    private void consumeEvents() {
+        while (true) {
+            try {
+                FinishEvent event = events.take();
+                Referee referee = refereesByAnimalId.get(event.getAnimal().getId());
+                if (referee != null && referee.recordFinish(event)) {
+                    waitingReferees.decrementAndGet(); // The whole group has finished
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // Restore interrupt status
+                return;
+            } catch (RuntimeException e) {
+                e.printStackTrace(); // A faulty event must not stop the service
+            }
+        }
+    }
+}
@@ -58,17 +58,16 @@ public class RegularTournament extends Tournament {
                 double neededDistance = AnimalTableModel.getRegularAnimalGroups().get(i).get(j).getNeededDistance();
                 Animal animal = animalsTable.get(i).get(j);
 
-                // Create and start a new AnimalThread for the new animal
+                // Create a new AnimalThread for the new animal and start it according to the selected execution mode
                 AnimalThread animalThread = new AnimalThread(animal, neededDistance, startFlag, finishFlags[i][j]);
                 animalThreads[i] = animalThread;
-                new Thread(animalThread).start();
+                startParticipant(animalThread);
             }
         }
 
         // Start the tournament thread
         this.tournamentThread = new TournamentThread(startFlag, animalsTable.size(), "regular");
-        Thread tournamentThread = new Thread(this.tournamentThread);
-        tournamentThread.start();
+        ExecutionMode.getCurrent().start(this.tournamentThread, "Tournament-regular");
     }
 
     /**
@@ -0,0 +1,129 @@
+package Competitions;
+
+import java.util.concurrent.Phaser;
+
+/**
+ * The RelayCoordinator class passes the baton of a courier race from one leg to the next.
+ * The baton is a {@link Phaser} with a single party: the phase of the phaser is the leg that is running,
+ * and the runner of that leg advances the phase when it finishes, which hands the baton to the next leg at once.
+ * The phaser terminates after the last leg, so the coordinator works for any number of legs.
+ *
+ * Runners stepped by a tick ask {@link #isRunning(int)} on every tick, runners on their own thread
+ * block in {@link #awaitLeg(int)} until their leg starts. The coordinator also keeps the race time of the last hand-off,
+ * so a runner knows at which simulated time its leg started, no matter how fast the race is run.
+ */
+public class RelayCoordinator {
+    private final int legs; // The number of legs of the relay
+    private volatile Phaser baton; // The phase is the running leg, negative once the relay is over
+    private volatile long handOffMillis = 0; // The race time the running leg received the baton at
+
+    /**
+     * Constructs a RelayCoordinator whose first leg is running.
+     *
+     * @param legs The number of legs of the relay.
+     */
+    public RelayCoordinator(int legs) {
+        this.legs = legs;
+        this.baton = newBaton();
+    }
+
+    /**
+     * Gives the baton back to the first leg.
+     */
+    public void reset() {
+        handOffMillis = 0;
+        baton = newBaton();
+    }
+
+    /**
+     * Creates a baton that terminates once the last leg has handed it off.
+     *
+     * @return The new baton.
+     */
+    private Phaser newBaton() {
+        Phaser phaser = new Phaser(1) {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                return phase + 1 >= legs; // The relay is over after the last leg
+            }
+        };
+        if (legs == 0) {
+            phaser.forceTermination(); // A relay without legs is over before it starts
+        }
+        return phaser;
+    }
+
+    public int getLegs() {
+        return legs;
+    }
+
+    /**
+     * Retrieves the leg that holds the baton.
+     *
+     * @return The index of the running leg, or -1 if the relay is over.
+     */
+    public int getCurrentLeg() {
+        int phase = baton.getPhase();
+        return phase < 0 ? -1 : phase;
+    }
+
+    /**
+     * Checks if a leg holds the baton.
+     *
+     * @param leg The index of the leg.
+     * @return true if the leg is running, false if it has not started yet or has already handed off.
+     */
+    public boolean isRunning(int leg) {
+        return baton.getPhase() == leg;
+    }
+
+    /**
+     * Retrieves the race time at which the running leg received the baton. The first leg starts at 0.
+     *
+     * @return The race time of the last hand-off in milliseconds.
+     */
+    public long getHandOffMillis() {
+        return handOffMillis;
+    }
+
+    /**
+     * Checks if the last leg has handed off the baton.
+     *
+     * @return true if the relay is over, false otherwise.
+     */
+    public boolean isFinished() {
+        return baton.isTerminated();
+    }
+
+    /**
+     * Hands the baton from a leg to the next one. Only the leg that holds the baton can hand it off,
+     * so a runner that reports its finish twice does not skip the following leg.
+     *
+     * @param leg The index of the leg that finished.
+     * @param raceMillis The race time the leg finished at, in milliseconds.
+     * @return true if the baton was handed off, false if the leg did not hold it.
+     */
+    public synchronized boolean handOff(int leg, long raceMillis) {
+        Phaser current = baton;
+        if (current.getPhase() != leg) {
+            return false;
+        }
+        handOffMillis = raceMillis; // Written before the next leg can see the new phase
+        current.arrive();
+        return true;
+    }
+
+    /**
+     * Blocks until a leg receives the baton, or the relay is over.
+     *
+     * @param leg The index of the leg to wait for.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void awaitLeg(int leg) throws InterruptedException {
+        Phaser current = baton;
+        int phase = current.getPhase();
+        while (phase >= 0 && phase < leg) {
+            phase = current.awaitAdvanceInterruptibly(phase);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package Competitions;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The ScoreStore class holds the finish times of all the groups of the current race.
+ * A finish time is the time that passed from the start of the race until the last animal of the group finished,
+ * measured in simulated race time, so it is neither affected by changes of the wall clock
+ * nor by the {@link RaceSpeed} the race is run at.
+ *
+ * Scores are kept by group ID, and the formatted time of every score is created once when the score is recorded,
+ * so reading the scores while the table is painted neither searches nor allocates.
+ */
+public class ScoreStore {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS"); // Immutable and thread safe
+    private static final String NO_TIME = "-"; // Shown for a group without a time
+    private static ScoreStore instance; // The store shared by the whole application
+
+    private final Map<Integer, Score> scoresByGroupId = new ConcurrentHashMap<>(); // The score of every finished group
+    private final AtomicIntegerArray finishedGroups = new AtomicIntegerArray(CompetitionType.values().length); // Finished groups per type
+    private volatile long raceNanos; // The simulated time that passed since the start of the current race
+    private volatile boolean raceStarted = false; // Marks that a race has been started
+    private volatile RunningTime runningTime = new RunningTime(-1, NO_TIME); // The last formatted running time
+
+    /**
+     * The finish time of a single group.
+     */
+    private static class Score {
+        private final long elapsedNanos; // The time from the start of the race until the group finished
+        private final String formatted; // The elapsed time, formatted once
+
+        private Score(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+            this.formatted = formatElapsed(elapsedNanos);
+        }
+    }
+
+    /**
+     * The running time of the race, formatted for a whole second.
+     */
+    private static class RunningTime {
+        private final long second; // The second of the race that was formatted
+        private final String formatted; // The formatted time of that second
+
+        private RunningTime(long second, String formatted) {
+            this.second = second;
+            this.formatted = formatted;
+        }
+    }
+
+    private ScoreStore() {
+    }
+
+    /**
+     * Retrieves the store shared by the whole application, creating it on first use.
+     *
+     * @return The ScoreStore instance.
+     */
+    public static synchronized ScoreStore getInstance() {
+        if (instance == null) {
+            instance = new ScoreStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Removes the scores of the previous race and starts the race time of a new race.
+     */
+    public void startRace() {
+        scoresByGroupId.clear();
+        for (int i = 0; i < finishedGroups.length(); i++) {
+            finishedGroups.set(i, 0);
+        }
+        runningTime = new RunningTime(-1, NO_TIME);
+        raceNanos = 0;
+        raceStarted = true;
+    }
+
+    /**
+     * Updates the simulated time that passed since the start of the race, as shown while the race is running.
+     * Called by the driver of the race after every firing.
+     *
+     * @param raceNanos The race time in nanoseconds.
+     */
+    public void setRaceTime(long raceNanos) {
+        this.raceNanos = raceNanos;
+    }
+
+    /**
+     * Records the finish time of a group. Only the first finish time of every group is kept.
+     *
+     * @param groupId The ID of the group.
+     * @param competitionType The type of competition the group ran.
+     * @param finishNanos The race time the group finished at, in nanoseconds.
+     * @return true if the score was recorded, false if the group already has a score.
+     */
+    public boolean record(int groupId, CompetitionType competitionType, long finishNanos) {
+        Score score = new Score(Math.max(0, finishNanos));
+        if (scoresByGroupId.putIfAbsent(groupId, score) != null) {
+            return false;
+        }
+        finishedGroups.incrementAndGet(competitionType.ordinal());
+        return true;
+    }
+
+    /**
+     * Checks if a group has finished.
+     *
+     * @param groupId The ID of the group.
+     * @return true if the group has a score, false otherwise.
+     */
+    public boolean hasScore(int groupId) {
+        return scoresByGroupId.containsKey(groupId);
+    }
+
+    /**
+     * Retrieves the finish time of a group.
+     *
+     * @param groupId The ID of the group.
+     * @return The time from the start of the race until the group finished in nanoseconds, or -1 if it has not finished.
+     */
+    public long getElapsedNanos(int groupId) {
+        Score score = scoresByGroupId.get(groupId);
+        return score == null ? -1 : score.elapsedNanos;
+    }
+
+    /**
+     * Retrieves the formatted finish time of a group.
+     *
+     * @param groupId The ID of the group.
+     * @return The finish time as "HH:mm:ss.SSS", or null if the group has not finished.
+     */
+    public String getFormattedTime(int groupId) {
+        Score score = scoresByGroupId.get(groupId);
+        return score == null ? null : score.formatted;
+    }
+
+    /**
+     * Retrieves the race time that passed since the start of the race, formatted to the whole second.
+     * The string is only created once per second, no matter how often it is read.
+     *
+     * @return The running time as "HH:mm:ss.SSS", or "-" if no race has been started.
+     */
+    public String getFormattedRunningTime() {
+        if (!raceStarted) {
+            return NO_TIME;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(raceNanos);
+        RunningTime current = runningTime;
+        if (current.second != second) {
+            current = new RunningTime(second, formatElapsed(TimeUnit.SECONDS.toNanos(second)));
+            runningTime = current;
+        }
+        return current.formatted;
+    }
+
+    /**
+     * Retrieves the number of groups of a competition type that have finished.
+     *
+     * @param competitionType The competition type.
+     * @return The number of finished groups.
+     */
+    public int getFinishedCount(CompetitionType competitionType) {
+        return finishedGroups.get(competitionType.ordinal());
+    }
+
+    /**
+     * Formats an elapsed time as "HH:mm:ss.SSS".
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds.
+     * @return The formatted time. Times of a day or longer are capped just below a day.
+     */
+    public static String formatElapsed(long elapsedNanos) {
+        long nanoOfDay = Math.min(Math.max(0, elapsedNanos), LocalTime.MAX.toNanoOfDay());
+        return TIME_FORMAT.format(LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+}
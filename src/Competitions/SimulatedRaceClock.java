@@ -0,0 +1,50 @@
+package Competitions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The SimulatedRaceClock class is the clock of a race that does not wait for real time.
+ * A wait on the clock only yields to the other threads of the race, so the participants take their steps
+ * back to back and a whole tournament finishes in the time the CPU needs for the steps.
+ *
+ * The time of the clock starts at 0 and only moves forward when the driver of the race advances it,
+ * for example after every tick of the {@link RaceEngine}. The finish times of the participants do not depend on
+ * this time, since every participant counts the race time of its own steps, so they are the same on both clocks.
+ */
+public class SimulatedRaceClock implements IRaceClock {
+    private final AtomicLong nanos = new AtomicLong(0); // The race time the driver has reached
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+
+    /**
+     * Returns at once, after giving the other threads of the race a chance to run.
+     *
+     * @param millis The race time to wait for, in milliseconds. It is not waited for.
+     * @throws InterruptedException If the thread has been interrupted.
+     */
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.yield();
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public boolean isSimulated() {
+        return true;
+    }
+
+    /**
+     * Moves the time of the clock forward. The time never moves backwards.
+     *
+     * @param millis The race time the driver has reached, in milliseconds.
+     */
+    public void advanceTo(long millis) {
+        nanos.accumulateAndGet(TimeUnit.MILLISECONDS.toNanos(millis), Math::max);
+    }
+}
@@ -0,0 +1,147 @@
+package Competitions;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The TickScheduler class steps all the race participants from a small fixed pool of threads.
+ * The pool has one thread per available processor, and every thread owns a lane of participants
+ * that it steps once every tick. The number of threads therefore stays the same no matter how many
+ * animals participate in the race.
+ *
+ * At a higher {@link RaceSpeed} a lane is stepped several times per tick, and at unbounded speed or when the race
+ * runs on a {@link SimulatedRaceClock} it is stepped for the whole tick, so the participants take the same steps
+ * in less wall clock time. A lane stops stepping for the rest of the tick once a pass finds every participant waiting,
+ * so participants that wait for the start signal or a baton do not keep the pool busy.
+ */
+public class TickScheduler {
+    public static final int TICK_MILLIS = 50; // The time between two steps of the same participant
+    private static TickScheduler instance; // The scheduler shared by all the tournaments
+    private final ScheduledExecutorService pool; // The threads that step the lanes
+    private final List<Queue<ISteppable>> lanes = new ArrayList<>(); // The participants of every thread
+    private final AtomicInteger nextLane = new AtomicInteger(0); // The lane the next participant is added to
+
+    /**
+     * Constructs a TickScheduler with the specified number of threads.
+     *
+     * @param poolSize The number of threads (and lanes) of the scheduler.
+     */
+    private TickScheduler(int poolSize) {
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        pool = Executors.newScheduledThreadPool(poolSize, task -> {
+            Thread thread = new Thread(task, "TickScheduler-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true); // The scheduler should not keep the application alive
+            return thread;
+        });
+
+        for (int i = 0; i < poolSize; i++) {
+            Queue<ISteppable> lane = new ConcurrentLinkedQueue<>();
+            lanes.add(lane);
+            pool.scheduleAtFixedRate(() -> runLane(lane), TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Retrieves the scheduler shared by all the tournaments, creating it on first use.
+     *
+     * @return The TickScheduler instance.
+     */
+    public static synchronized TickScheduler getInstance() {
+        if (instance == null) {
+            instance = new TickScheduler(Runtime.getRuntime().availableProcessors());
+        }
+        return instance;
+    }
+
+    /**
+     * Adds a participant to the scheduler. The participants are spread over the lanes in turn.
+     *
+     * @param participant The participant to step on every tick.
+     */
+    public void register(ISteppable participant) {
+        lanes.get(Math.floorMod(nextLane.getAndIncrement(), lanes.size())).add(participant);
+    }
+
+    /**
+     * Steps a lane as many times as the current race speed fits into one tick.
+     * At unbounded speed or on a simulated clock the lane is stepped until it is empty, the tick is over
+     * or a pass advances nobody.
+     *
+     * @param lane The lane to step.
+     */
+    private void runLane(Queue<ISteppable> lane) {
+        RaceSpeed speed = RaceLifecycle.getCurrent().getClock().isSimulated() ? RaceSpeed.UNBOUNDED : RaceSpeed.getCurrent();
+        if (!speed.isUnbounded()) {
+            for (int i = 0; i < speed.getMultiplier() && !lane.isEmpty(); i++) {
+                if (!stepLane(lane)) {
+                    return; // Everybody waits, the next passes of this tick would not advance anybody either
+                }
+            }
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+        while (!lane.isEmpty() && System.nanoTime() < deadline) {
+            if (!stepLane(lane)) {
+                return; // Everybody waits, check again on the next tick
+            }
+        }
+    }
+
+    /**
+     * Steps every participant of a lane once, and removes the participants that have finished.
+     * The participants that are waiting are skipped.
+     *
+     * @param lane The lane to step.
+     * @return true if at least one participant was stepped, false if all of them were waiting.
+     */
+    private boolean stepLane(Queue<ISteppable> lane) {
+        boolean advanced = false;
+        Iterator<ISteppable> iterator = lane.iterator();
+        while (iterator.hasNext()) {
+            ISteppable participant = iterator.next();
+            try {
+                if (participant.isWaiting()) {
+                    continue; // A step would not change anything yet
+                }
+                advanced = true;
+                if (participant.step()) {
+                    iterator.remove(); // The participant has finished
+                }
+            } catch (RuntimeException e) {
+                // An exception must not cancel the lane, only drop the participant that caused it
+                e.printStackTrace();
+                iterator.remove();
+            }
+        }
+        return advanced;
+    }
+
+    /**
+     * Retrieves the number of participants that are still being stepped.
+     *
+     * @return The number of participants in all the lanes.
+     */
+    public int getParticipantCount() {
+        int count = 0;
+        for (Queue<ISteppable> lane : lanes) {
+            count += lane.size();
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the number of threads the scheduler uses.
+     *
+     * @return The size of the thread pool.
+     */
+    public int getPoolSize() {
+        return lanes.size();
+    }
+}
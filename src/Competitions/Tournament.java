@@ -1,6 +1,7 @@
 package Competitions;
 
 import Animals.Animal;
+import Graphics.AnimalThread;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -25,6 +26,22 @@ public abstract class Tournament {
         return this.tournamentThread;
     }
 
+    /**
+     * Starts a participant of the tournament according to the selected execution mode.
+     * When an engine drives the race, the participant is not started at all: the engine moves its animal,
+     * and the race lifecycle passes the finish event of the engine to the participant.
+     *
+     * @param participant The participant to start.
+     */
+    protected static void startParticipant(AnimalThread participant) {
+        RaceLifecycle race = RaceLifecycle.getCurrent();
+        if (race.isEngineDriven()) {
+            race.addFinishListener(participant.getParticipant(), participant);
+        } else {
+            ExecutionMode.getCurrent().startParticipant(participant, "Animal-" + participant.getParticipant().getName());
+        }
+    }
+
     /**
      * Abstract method to be implemented by subclasses to set up the tournament.
      * This method is responsible for initializing the animal groups and any necessary
@@ -1,22 +1,23 @@
 package Competitions;
 
 import Graphics.CompetitionFrame;
-import java.util.Map;
-import java.util.Date;
+import Graphics.RenderScheduler;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The `TournamentThread` class is responsible for managing the execution of a tournament.
- * It controls the start of the tournament by notifying all participating threads and periodically
+ * The participating threads watch the shared start flag of the tournament on their own, and this thread periodically
  * updates the UI with the current status of the competition. The thread continues running until all
- * groups in the tournament have finished their race.
+ * groups in the tournament have finished their race. The thread waits between two updates on the {@link IRaceClock} of the race.
  */
 public class TournamentThread implements Runnable {
-    private AtomicBoolean startLock; // Shared lock object
-    private static Scores scores = new Scores();
+    private AtomicBoolean startLock; // Shared flag that signals the start of the tournament
     private volatile boolean running = true;
     private final int groups;
     private final String competitionType;
+    private final CompetitionType type; // The competition type as an enum, null if unknown
+    private final RaceLifecycle.Registration lifecycle; // Tells the race when the tournament is done
+    private final IRaceClock clock; // The clock the thread waits on between two updates
 
 
     /**
@@ -30,44 +31,43 @@ public class TournamentThread implements Runnable {
         this.competitionType = competitionType;
         this.startLock = startLock;
         this.groups = groups;
+        this.type = CompetitionType.fromLabel(competitionType);
+        this.lifecycle = RaceLifecycle.getCurrent().register(RaceLifecycle.Role.TOURNAMENT);
+        this.clock = RaceLifecycle.getCurrent().getClock();
     }
 
     /**
-     * The main execution method of the thread, which starts the tournament and periodically updates
+     * The main execution method of the thread, which periodically updates
      * the UI with the current status of the competition. The thread continues running until all groups
      * have finished.
      */
     @Override
     public void run() {
 
-        // Notify all waiting threads to start the competition
-        synchronized (startLock) {
-            startLock.notifyAll(); // Notify all waiting AnimalThreads to start
-        }
-
-        // Periodically update the UI with the current status of the competition
-        while (running) {
-            // Retrieve the scores and update the UI
-            Map<String, Date> allScores = scores.getAll();
-
-            // Check if all groups have finished
-            if (allScores.size() >= groups) {
-                // All groups have finished; exit the loop
-                break;
-            }
+        try {
+            // Periodically update the UI with the current status of the competition
+            while (running) {
+                // Check if all groups have finished
+                if (type != null && ScoreStore.getInstance().getFinishedCount(type) >= groups) {
+                    // All groups have finished; exit the loop
+                    break;
+                }
 
-            // Update the UI with current scores
-            // This would involve interaction with the UI components
-            CompetitionFrame.getDialog().repaint();
+                // Update the UI with current scores
+                // This would involve interaction with the UI components
+                RenderScheduler.getInstance().requestRepaint(CompetitionFrame.getDialog());
 
-            // Sleep or delay before the next update
-            try {
-                Thread.sleep(1000); // Update the UI every second (or adjust as needed)
-            } catch (InterruptedException e) {
-                // Handle thread interruption, possibly cleanup resources
-                Thread.currentThread().interrupt();
-                break; // Exit loop on interruption
+                // Sleep or delay before the next update
+                try {
+                    clock.sleep(1000); // Update the UI every second of race time (or adjust as needed)
+                } catch (InterruptedException e) {
+                    // Handle thread interruption, possibly cleanup resources
+                    Thread.currentThread().interrupt();
+                    break; // Exit loop on interruption
+                }
             }
+        } finally {
+            lifecycle.arrive(); // The tournament is done, whether all groups finished or the thread was interrupted
         }
     }
 }
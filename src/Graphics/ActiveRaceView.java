@@ -0,0 +1,162 @@
+package Graphics;
+
+import Animals.Animal;
+import Competitions.RaceSnapshot;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The ActiveRaceView class is the active rendering alternative to the {@link CompetitionPanel}.
+ * Instead of waiting for Swing to call paintComponent on the event dispatch thread, a dedicated render thread
+ * draws the whole race into the back buffer of a {@link BufferStrategy} and flips it to the screen,
+ * so the frame rate does not depend on how busy the event dispatch thread is with the tables.
+ *
+ * The view draws the same background as the panel and paints every animal from the same {@link RaceSnapshot},
+ * at the target frame rate of the {@link RenderScheduler}. The frame rate it achieves is shown in the corner of the view.
+ */
+public final class ActiveRaceView extends Canvas {
+    private static final long serialVersionUID = 1L;
+    private static final int BUFFERS = 2; // Page flipping between a front and a back buffer
+    private final transient TrackBackground background = new TrackBackground("competitionBackground2.png"); // The background layer
+    private volatile boolean running = false; // Marks the render thread as active
+    private transient Thread renderThread; // The thread that draws the frames
+    private volatile double achievedFps = 0; // The frame rate measured over the last second
+
+    /**
+     * Constructs an ActiveRaceView. Swing repaint requests are ignored, the view only shows what the render thread draws.
+     */
+    public ActiveRaceView() {
+        setIgnoreRepaint(true);
+        setBackground(Color.BLACK);
+    }
+
+    /**
+     * Returns the preferred size of the view, the size of the background image like the competition panel.
+     *
+     * @return The preferred size.
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(background.getWidth(), background.getHeight());
+    }
+
+    /**
+     * Starts the render thread. The view must already be displayable, so its buffers can be created.
+     *
+     * @return true if the render thread was started, false if it is already running or the view is not displayable.
+     */
+    public synchronized boolean start() {
+        if (running) {
+            return false;
+        }
+        if (!isDisplayable()) {
+            System.out.println("Error: The race view must be added to a visible frame before it is started");
+            return false;
+        }
+        createBufferStrategy(BUFFERS);
+        running = true;
+        renderThread = new Thread(this::renderLoop, "ActiveRaceView");
+        renderThread.setDaemon(true); // The view should not keep the application alive
+        renderThread.start();
+        return true;
+    }
+
+    /**
+     * Stops the render thread and waits for the current frame to finish.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (renderThread != null) {
+            try {
+                renderThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            renderThread = null;
+        }
+        achievedFps = 0;
+    }
+
+    /**
+     * Checks if the render thread is running.
+     *
+     * @return true if the view is actively rendering, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Retrieves the frame rate achieved by the render thread over the last second.
+     *
+     * @return The number of frames per second, or 0 if the view is not rendering.
+     */
+    public double getAchievedFps() {
+        return achievedFps;
+    }
+
+    /**
+     * The loop of the render thread. Draws a frame, flips it to the screen and waits for the next frame,
+     * until the view is stopped. The target frame rate is read every frame, so changes take effect immediately.
+     */
+    private void renderLoop() {
+        BufferStrategy strategy = getBufferStrategy();
+        long nextFrame = System.nanoTime();
+        long windowStart = nextFrame;
+        int framesInWindow = 0;
+
+        while (running) {
+            // Draw until the buffer contents survive, the buffers can be lost when the display changes
+            do {
+                do {
+                    Graphics g = strategy.getDrawGraphics();
+                    try {
+                        renderFrame(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+
+            // Measure the achieved frame rate once per second
+            framesInWindow++;
+            long now = System.nanoTime();
+            if (now - windowStart >= 1_000_000_000L) {
+                achievedFps = framesInWindow * 1e9 / (now - windowStart);
+                windowStart = now;
+                framesInWindow = 0;
+            }
+
+            // Wait for the next frame, skipping frames if the drawing fell behind
+            nextFrame += 1_000_000_000L / RenderScheduler.getInstance().getTargetFps();
+            long wait = nextFrame - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                nextFrame = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Draws a single frame: the background, every animal and the achieved frame rate.
+     *
+     * @param g The Graphics context of the back buffer.
+     */
+    private void renderFrame(Graphics g) {
+        if (background.getWidth() == 0) {
+            g.clearRect(0, 0, getWidth(), getHeight()); // No background image to cover the previous frame
+        }
+        background.paint(g, this);
+        RaceSnapshot snapshot = CompetitionPanel.currentSnapshot();
+        double alpha = snapshot == null ? 1 : snapshot.interpolationAlpha(System.nanoTime()); // Interpolate at the frame time
+        for (Animal animal : CompetitionPanel.getAnimals()) {
+            CompetitionPanel.drawAnimal(g, animal, snapshot, alpha);
+        }
+        g.setColor(Color.WHITE);
+        g.drawString(String.format("FPS: %.1f", achievedFps), 10, 20);
+    }
+}
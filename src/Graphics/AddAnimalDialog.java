@@ -3,7 +3,6 @@ package Graphics;
 import Animals.*;
 import Olympics.Medal;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -412,8 +411,7 @@ public class AddAnimalDialog extends JDialog {
                 animal.setTrackNumber(selectedTrackNumber);
                 CompetitionPanel.addAnimal(animal);
                 String category = CompetitionFrame.getCategoryFromAnimal(animal);
-                DefaultTableModel model = CompetitionFrame.getInfoTableModel();
-                model.addRow(new Object[]{selectedAnimalName, category, selectedAnimalType, selectedSpeed, animal.getEnergy(), 0, animal.getEnergyPerMeter()});
+                CompetitionFrame.getInfoTableModel().addAnimal(animal, category, selectedAnimalType, selectedSpeed);
                 ((CompetitionFrame) getParent()).getCompetitionPanel().repaint();
 
 
@@ -166,39 +166,12 @@ public class AddCompetitionDialog extends JDialog {
      * @param competitionType The type of competition ("courier" or "regular") to which the animal belongs.
      */
     public void addAnimalToGroup(int groupIndex, Animal animal, String competitionType) {
-
-        // Add the animal to the general animal group if the index is valid
+        // The general group and its regular or courier partition share the same animal list in the registry
         if (groupIndex >= 0 && groupIndex < animalTableModel.getGroupCount()) {
-            List<Animal> generalGroup = animalTableModel.getAnimalGroups().get(groupIndex);
-            if (!generalGroup.contains(animal)) {
-                generalGroup.add(animal);
-            }
-        }
-
-        // Add the animal to the appropriate competition group based on its type
-        if (competitionType.equals("courier")) {
-            groupIndex = AnimalTableModel.getCourierGroupIndex(groupIndex);
-            if (groupIndex < AnimalTableModel.getCourierAnimalGroups().size()) {
-                List<Animal> courierGroup = AnimalTableModel.getCourierAnimalGroups().get(groupIndex);
-                if (!courierGroup.contains(animal)) {
-                    courierGroup.add(animal);
-                }
-            } else {
-                System.err.println("Error: Invalid courier group index " + groupIndex);
-            }
-        } else if (competitionType.equals("regular")) {
-            groupIndex = AnimalTableModel.getRegularGroupIndex(groupIndex);
-            if (groupIndex < AnimalTableModel.getRegularAnimalGroups().size()) {
-                List<Animal> regularGroup = AnimalTableModel.getRegularAnimalGroups().get(groupIndex);
-                if (!regularGroup.contains(animal)) {
-                    regularGroup.add(animal);
-                }
-            } else {
-                System.err.println("Error: Invalid regular group index " + groupIndex);
-            }
+            animalTableModel.addAnimalToGroup(groupIndex, animal);
+        } else {
+            System.err.println("Error: Invalid " + competitionType + " group index " + groupIndex);
         }
-
-        animalTableModel.fireTableDataChanged();
     }
 }
 
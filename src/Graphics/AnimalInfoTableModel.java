@@ -0,0 +1,247 @@
+package Graphics;
+
+import Animals.Animal;
+import Competitions.RaceSnapshot;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The AnimalInfoTableModel class is the data model of the info table, with a row for every animal in the competition.
+ * The model keeps an index from the id and the name of every animal to its row, so updating, finding or removing
+ * an animal does not scan the table.
+ *
+ * Updates of the energy and distance columns are collected and announced to the table once per frame of the
+ * {@link RenderScheduler}, as a single range of updated rows, instead of firing an event for every changed cell.
+ */
+public class AnimalInfoTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private static final String[] COLUMNS = {"Animal", "Category", "Type", "Speed", "Energy Amount", "Distance", "Energy Consumption"};
+    private static final int ENERGY_COLUMN = 4;
+    private static final int DISTANCE_COLUMN = 5;
+    private static final int ENERGY_PER_METER_COLUMN = 6;
+
+    private final transient List<Row> rows = new ArrayList<>(); // The rows of the table, in the order the animals were added
+    private final transient Map<Integer, Integer> rowById = new HashMap<>(); // The row index of every animal id
+    private final transient Map<String, Integer> idByName = new HashMap<>(); // The id of the first animal with every name
+    private int firstDirtyRow = -1; // The first row updated since the last flush, or -1 if none
+    private int lastDirtyRow = -1; // The last row updated since the last flush
+    private final transient Runnable flushTask = this::flushUpdates; // The render task that announces the updated rows
+
+    /**
+     * A single row of the table. The name, category, type and speed are fixed when the animal is added,
+     * the other columns are copied from the animal on every update.
+     */
+    private static class Row {
+        private final Animal animal;
+        private final String name;
+        private final String category;
+        private final String type;
+        private final double speed;
+        private int energy;
+        private double distance;
+        private int energyPerMeter;
+
+        private Row(Animal animal, String category, String type, double speed) {
+            this.animal = animal;
+            this.name = animal.getName();
+            this.category = category;
+            this.type = type;
+            this.speed = speed;
+            copyLiveValues();
+        }
+
+        /**
+         * Copies the energy, distance and energy consumption of the animal into the row.
+         *
+         * @return true if any of the values changed, false otherwise.
+         */
+        private boolean copyLiveValues() {
+            return setLiveValues(animal.getEnergy(), animal.getTotalDistance(), animal.getEnergyPerMeter());
+        }
+
+        /**
+         * Sets the energy, distance and energy consumption of the row.
+         *
+         * @return true if any of the values changed, false otherwise.
+         */
+        private boolean setLiveValues(int newEnergy, double newDistance, int newEnergyPerMeter) {
+            boolean changed = newEnergy != energy || newDistance != distance || newEnergyPerMeter != energyPerMeter;
+            energy = newEnergy;
+            distance = newDistance;
+            energyPerMeter = newEnergyPerMeter;
+            return changed;
+        }
+    }
+
+    @Override
+    public synchronized int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public synchronized Object getValueAt(int rowIndex, int columnIndex) {
+        Row row = rows.get(rowIndex);
+        switch (columnIndex) {
+            case 0: return row.name;
+            case 1: return row.category;
+            case 2: return row.type;
+            case 3: return row.speed;
+            case ENERGY_COLUMN: return row.energy;
+            case DISTANCE_COLUMN: return row.distance;
+            case ENERGY_PER_METER_COLUMN: return row.energyPerMeter;
+            default: return null;
+        }
+    }
+
+    /**
+     * Adds a row for a new animal at the end of the table.
+     *
+     * @param animal The animal to add.
+     * @param category The category of the animal.
+     * @param type The type of the animal.
+     * @param speed The speed of the animal.
+     */
+    public void addAnimal(Animal animal, String category, String type, double speed) {
+        int rowIndex;
+        synchronized (this) {
+            rowIndex = rows.size();
+            rows.add(new Row(animal, category, type, speed));
+            rowById.put(animal.getId(), rowIndex);
+            idByName.putIfAbsent(animal.getName(), animal.getId()); // Lookups by name find the first animal, like a scan would
+        }
+        fireTableRowsInserted(rowIndex, rowIndex);
+    }
+
+    /**
+     * Copies the current energy and distance of an animal into its row.
+     * The table is told about the change in the next frame, together with all the other updated rows.
+     * This method may be called from any thread.
+     *
+     * @param animal The animal whose row should be updated.
+     */
+    public void updateAnimal(Animal animal) {
+        synchronized (this) {
+            Integer rowIndex = rowById.get(animal.getId());
+            if (rowIndex == null || !rows.get(rowIndex).copyLiveValues()) {
+                return; // Not in the table, or nothing changed
+            }
+            markDirty(rowIndex);
+        }
+        RenderScheduler.getInstance().requestRender(flushTask);
+    }
+
+    /**
+     * Adds a row to the range of rows updated since the last flush. Called while holding the lock of the model.
+     *
+     * @param rowIndex The updated row.
+     */
+    private void markDirty(int rowIndex) {
+        if (firstDirtyRow < 0) {
+            firstDirtyRow = rowIndex;
+            lastDirtyRow = rowIndex;
+        } else {
+            firstDirtyRow = Math.min(firstDirtyRow, rowIndex);
+            lastDirtyRow = Math.max(lastDirtyRow, rowIndex);
+        }
+    }
+
+    /**
+     * Copies the energy and distance of every animal of a race snapshot into its row.
+     * The table is told about the change in the next frame, together with all the other updated rows.
+     * This method may be called from any thread.
+     *
+     * @param snapshot The snapshot to copy from.
+     */
+    public void updateFromSnapshot(RaceSnapshot snapshot) {
+        boolean changed = false;
+        synchronized (this) {
+            for (int i = 0; i < snapshot.size(); i++) {
+                Integer rowIndex = rowById.get(snapshot.getAnimal(i).getId());
+                if (rowIndex == null || rows.get(rowIndex).animal != snapshot.getAnimal(i)) {
+                    continue; // Not in the table
+                }
+                if (rows.get(rowIndex).setLiveValues(snapshot.getEnergy(i), snapshot.getTotalDistance(i), snapshot.getEnergyPerMeter(i))) {
+                    markDirty(rowIndex);
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            RenderScheduler.getInstance().requestRender(flushTask);
+        }
+    }
+
+    /**
+     * Finds an animal of the table by its name.
+     *
+     * @param name The name of the animal.
+     * @return The animal, or null if no animal with that name is in the table.
+     */
+    public synchronized Animal findAnimal(String name) {
+        Integer id = idByName.get(name);
+        return id == null ? null : rows.get(rowById.get(id)).animal;
+    }
+
+    /**
+     * Removes the row of an animal by its name.
+     *
+     * @param name The name of the animal.
+     * @return true if the animal was removed, false if no animal with that name is in the table.
+     */
+    public boolean removeAnimal(String name) {
+        int rowIndex;
+        synchronized (this) {
+            Integer id = idByName.remove(name);
+            if (id == null) {
+                return false;
+            }
+            rowIndex = rowById.remove(id);
+            rows.remove(rowIndex);
+            // The rows after the removed one moved up by one, and the next animal with the same name takes its place
+            for (int i = rowIndex; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                rowById.put(row.animal.getId(), i);
+                if (row.name.equals(name)) {
+                    idByName.putIfAbsent(name, row.animal.getId());
+                }
+            }
+            if (firstDirtyRow >= 0) {
+                firstDirtyRow = 0; // The pending range may have moved, announce the whole table
+                lastDirtyRow = rows.size() - 1;
+            }
+        }
+        fireTableRowsDeleted(rowIndex, rowIndex);
+        return true;
+    }
+
+    /**
+     * Announces the rows updated since the last flush to the table as a single range.
+     * Called by the {@link RenderScheduler} on the event dispatch thread.
+     */
+    private void flushUpdates() {
+        int first;
+        int last;
+        synchronized (this) {
+            first = firstDirtyRow;
+            last = Math.min(lastDirtyRow, rows.size() - 1);
+            firstDirtyRow = -1;
+            lastDirtyRow = -1;
+        }
+        if (first >= 0 && first <= last) {
+            fireTableRowsUpdated(first, last);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package Graphics;
 
 import Animals.Animal;
+import Competitions.AnimalGroup;
+import Competitions.CompetitionType;
+import Competitions.GroupCategory;
+import Competitions.GroupRegistry;
+import Competitions.ScoreStore;
 import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 /**
@@ -13,28 +15,24 @@ import java.util.List;
  * Each column represents a group, and each row represents an animal or an "Add Animal" button.
  */
 public class AnimalTableModel extends AbstractTableModel {
-    private static List<List<Animal>> animalGroups; // All groups info
-    private static List<List<Animal>> courierAnimalGroups; // courier groups info
-    private static List<List<Animal>> regularAnimalGroups; // regular groups info
-    private static List<String> groupNames; // To hold the names of all groups
-    private static List<String> competitionsTypes; // (regular/courier)
+    private static GroupRegistry registry; // All the groups, indexed by position, ID, name and animal
     private static final int MAX_ANIMALS_PER_GROUP = 4;
-    private static List<String> groupsTypes;
-    private static List<Integer> groupsTrackNumbers;
 
     /**
      * Constructor to initialize the AnimalTableModel.
-     * It sets up the animal groups and group names.
+     * It sets up an empty group registry.
      */
     public AnimalTableModel() {
-        this.animalGroups = new ArrayList<>();
-        this.groupNames = new ArrayList<>(); // Initialize the group names list
-        this.competitionsTypes = new ArrayList<>();
-        this.courierAnimalGroups = new ArrayList<>();
-        this.regularAnimalGroups = new ArrayList<>();
-        this.groupsTypes = new ArrayList<>();
-        this.groupsTrackNumbers = new ArrayList<>();
+        registry = new GroupRegistry();
+    }
 
+    /**
+     * Retrieves the registry that holds all the groups of the competition.
+     *
+     * @return The group registry.
+     */
+    public static GroupRegistry getRegistry() {
+        return registry;
     }
 
     /**
@@ -56,11 +54,11 @@ public class AnimalTableModel extends AbstractTableModel {
      */
     @Override
     public int getColumnCount() {
-        return animalGroups.size(); // Return the size of the animalGroups list
+        return registry.size(); // Every group is a column
     }
 
     public static int getAnimalsCountPerGroup(int index){
-        return animalGroups.get(index).size();
+        return registry.get(index).getAnimals().size();
     }
 
     /**
@@ -72,7 +70,7 @@ public class AnimalTableModel extends AbstractTableModel {
      */
     @Override
     public String getColumnName(int column) {
-        return groupNames.get(column); // Return the group name for the given column index
+        return registry.get(column).getName(); // Return the group name for the given column index
     }
 
     /**
@@ -87,7 +85,7 @@ public class AnimalTableModel extends AbstractTableModel {
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
         if (rowIndex < MAX_ANIMALS_PER_GROUP) {
-            List<Animal> group = animalGroups.get(columnIndex);
+            List<Animal> group = registry.get(columnIndex).getAnimals();
             if (rowIndex < group.size()) {
                 Animal animal = group.get(rowIndex);
                 return animal.getName() + " - " + animal.getType(); // Display animal name and type
@@ -95,12 +93,12 @@ public class AnimalTableModel extends AbstractTableModel {
         } else if (rowIndex == MAX_ANIMALS_PER_GROUP) {
             return new JButton("Add Animal");
         } else if (rowIndex == MAX_ANIMALS_PER_GROUP + 1) {
-            String groupName = groupNames.get(columnIndex);
+            String finishTime = ScoreStore.getInstance().getFormattedTime(registry.get(columnIndex).getId());
 
-            if (CompetitionFrame.getScore(groupName) != null) {
-                return "Finish time: " + formatDateToString(CompetitionFrame.getScore(groupName).getScore(groupName));
+            if (finishTime != null) {
+                return "Finish time: " + finishTime;
             } else if(Tick.isRaceStarted()){
-                return "Finish time: " + formatDateToString(new Date());
+                return "Finish time: " + ScoreStore.getInstance().getFormattedRunningTime();
             } else{
                 return "Finish time: -";
             }
@@ -139,25 +137,12 @@ public class AnimalTableModel extends AbstractTableModel {
      * @param groupName the name of the group to add
      */
     public void addGroup(String groupName, String competitionType, String groupType, Integer trackNumber) {
-        List<Animal> newGroup = new ArrayList<>();
-        if (!animalGroups.contains(newGroup)) {
-            animalGroups.add(newGroup);
+        CompetitionType type = CompetitionType.fromLabel(competitionType);
+        if (type == null) {
+            System.err.println("Error: Unknown competition type " + competitionType);
+            return;
         }
-
-        if (competitionType.equals("regular") && !regularAnimalGroups.contains(newGroup)) {
-            regularAnimalGroups.add(newGroup); // Track this group in regular groups
-        } else if (competitionType.equals("courier")) {
-            if (!courierAnimalGroups.contains(newGroup)) {
-                courierAnimalGroups.add(newGroup);
-            }
-        }
-
-        // Other tracking lists
-        competitionsTypes.add(competitionType);
-        groupNames.add(groupName);
-        groupsTypes.add(groupType);
-        groupsTrackNumbers.add(trackNumber);
-
+        registry.addGroup(groupName, type, GroupCategory.fromLabel(groupType), trackNumber);
         fireTableStructureChanged();
     }
 
@@ -167,7 +152,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return the number of groups
      */
     public int getGroupCount() {
-        return animalGroups.size(); // Return the number of groups
+        return registry.size(); // Return the number of groups
     }
 
     /**
@@ -177,7 +162,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return the name of the group
      */
     public static String getGroupName(int index) {
-        return groupNames.get(index); // Return the name of the group at the given index
+        return registry.get(index).getName(); // Return the name of the group at the given index
     }
 
 
@@ -187,7 +172,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return the list of animal groups
      */
     public static List<List<Animal>> getAnimalGroups() {
-        return animalGroups;
+        return registry.getAnimalLists();
     }
 
     /**
@@ -197,7 +182,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return A list of animal groups for the courier tournament.
      */
     public static List<List<Animal>> getCourierAnimalGroups() {
-        return courierAnimalGroups;
+        return registry.getCourierAnimalLists();
     }
 
     /**
@@ -207,10 +192,28 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return A list of animal groups for the regular tournament.
      */
     public static List<List<Animal>> getRegularAnimalGroups() {
-        return regularAnimalGroups;
+        return registry.getRegularAnimalLists();
     }
 
 
+    /**
+     * Retrieves the competition types of all groups, in the same order as the animal groups.
+     *
+     * @return A list of competition types ("regular" or "courier").
+     */
+    public static List<String> getCompetitionTypes() {
+        return registry.getCompetitionTypeLabels();
+    }
+
+    /**
+     * Retrieves the types of all groups, in the same order as the animal groups.
+     *
+     * @return A list of group types ("Air", "Water" or "Terrestrial").
+     */
+    public static List<String> getGroupsTypes() {
+        return registry.getCategoryLabels();
+    }
+
     /**
      * Retrieves the number of animals in a specific group.
      *
@@ -218,7 +221,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return the number of animals in the group at the specified index
      */
     public static int getNumberOfAnimalInTheGroup(int index) {
-        return animalGroups.get(index).size();
+        return registry.get(index).getAnimals().size();
     }
 
     /**
@@ -228,7 +231,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return the competition type for the group at the specified index
      */
     public static String getCompetitionType(int index) {
-        return competitionsTypes.get(index);
+        return registry.get(index).getCompetitionType().getLabel();
     }
 
     /**
@@ -238,7 +241,12 @@ public class AnimalTableModel extends AbstractTableModel {
      * @param type the competition type to set for the group
      */
     public void setCompetitionType(int groupIndex, String type){
-        competitionsTypes.set(groupIndex, type);
+        CompetitionType competitionType = CompetitionType.fromLabel(type);
+        if (competitionType == null) {
+            System.err.println("Error: Unknown competition type " + type);
+            return;
+        }
+        registry.setCompetitionType(registry.get(groupIndex), competitionType);
     }
 
 
@@ -249,7 +257,8 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return The index of the group in the list, or -1 if the group is not found.
      */
     public static int getGroupIndex(String groupName) {
-        return groupNames.indexOf(groupName);
+        AnimalGroup group = registry.getByName(groupName);
+        return group == null ? -1 : group.getIndex();
     }
 
     /**
@@ -259,7 +268,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return The competition type of the group as a String.
      */
     public static String getGroupCompetitionType(int index) {
-        return competitionsTypes.get(index);
+        return registry.get(index).getCompetitionType().getLabel();
     }
 
     /**
@@ -269,7 +278,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return The type of the group as a String.
      */
     public static String getGroupType(int index) {
-        return groupsTypes.get(index);
+        return registry.getCategoryLabels().get(index);
     }
 
     /**
@@ -279,7 +288,7 @@ public class AnimalTableModel extends AbstractTableModel {
      * @return The track number assigned to the group.
      */
     public static int getGroupTrackNumber(int index) {
-        return groupsTrackNumbers.get(index);
+        return registry.get(index).getTrackNumber();
     }
 
     /**
@@ -292,18 +301,6 @@ public class AnimalTableModel extends AbstractTableModel {
     }
 
 
-    /**
-     * Formats a Date to a specific string format "HH:mm:ss" to return only the time.
-     * @param date The date to format
-     * @return The formatted time as a string
-     */
-    public static String formatDateToString(Date date) {
-        // Define the time format you want
-        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
-        // Format and return only the time as a string
-        return timeFormat.format(date);
-    }
-
     /**
      * Removes an animal from the table by its name. If the animal is the only one
      * in its group, the group is also removed.
@@ -311,18 +308,15 @@ public class AnimalTableModel extends AbstractTableModel {
      * @param animalName The name of the animal to remove.
      */
     public void removeAnimalByName(String animalName) {
-        for (int groupIndex = 0; groupIndex < animalGroups.size(); groupIndex++) {
-            List<Animal> group = animalGroups.get(groupIndex);
-
-            for (int animalIndex = 0; animalIndex < group.size(); animalIndex++) {
-                Animal animal = group.get(animalIndex);
-
+        for (AnimalGroup group : registry.getGroups()) {
+            for (Animal animal : group.getAnimals()) {
                 if (animal.getName().equals(animalName)) {
-                    group.remove(animalIndex); // Remove the animal from the group
+                    registry.removeAnimal(animal); // Remove the animal from the group
 
                     // If the group is empty after removal, remove the group
-                    if (group.isEmpty()) {
-                        removeGroupByIndex(groupIndex);
+                    if (group.getAnimals().isEmpty()) {
+                        registry.removeGroup(group);
+                        fireTableStructureChanged(); // Update the table structure after the change
                     } else {
                         fireTableDataChanged(); // Update the table model after the change
                     }
@@ -334,36 +328,40 @@ public class AnimalTableModel extends AbstractTableModel {
     }
 
     /**
-     * Removes a group from the table by its index.
+     * Adds an animal to a group.
      *
-     * @param groupIndex The index of the group to remove.
+     * @param groupIndex The index of the group.
+     * @param animal The animal to add.
+     * @return true if the animal was added, false if it is already in the group.
      */
-    private void removeGroupByIndex(int groupIndex) {
-        // Remove the group from the lists
-        animalGroups.remove(groupIndex);
-        groupNames.remove(groupIndex);
-        competitionsTypes.remove(groupIndex);
-        groupsTypes.remove(groupIndex);
-        groupsTrackNumbers.remove(groupIndex);
-
-        // Update regular or courier animal groups if applicable
-        if (groupIndex < regularAnimalGroups.size()) {
-            regularAnimalGroups.remove(groupIndex);
-        } else if (groupIndex < courierAnimalGroups.size()) {
-            courierAnimalGroups.remove(groupIndex);
+    public boolean addAnimalToGroup(int groupIndex, Animal animal) {
+        boolean added = registry.addAnimal(registry.get(groupIndex), animal);
+        if (added) {
+            fireTableDataChanged();
         }
-
-        fireTableStructureChanged(); // Update the table structure after the change
+        return added;
     }
 
+    /**
+     * Retrieves the index of a group among the courier groups.
+     *
+     * @param generalIndex The index of the group among all the groups.
+     * @return The index among the courier groups, or -1 if the group runs a regular race.
+     */
     public static int getCourierGroupIndex(int generalIndex) {
-        List<Animal> group = animalGroups.get(generalIndex);
-        return courierAnimalGroups.indexOf(group);
+        AnimalGroup group = registry.get(generalIndex);
+        return group.isCourier() ? group.getPartitionIndex() : -1;
     }
 
+    /**
+     * Retrieves the index of a group among the regular groups.
+     *
+     * @param generalIndex The index of the group among all the groups.
+     * @return The index among the regular groups, or -1 if the group runs a courier race.
+     */
     public static int getRegularGroupIndex(int generalIndex) {
-        List<Animal> group = animalGroups.get(generalIndex);
-        return regularAnimalGroups.indexOf(group);
+        AnimalGroup group = registry.get(generalIndex);
+        return group.isCourier() ? -1 : group.getPartitionIndex();
     }
 
 }
@@ -1,6 +1,16 @@
 package Graphics;
 
 import Animals.Animal;
+import Competitions.FinishEvent;
+import Competitions.IFinishListener;
+import Competitions.IRaceClock;
+import Competitions.ISteppable;
+import Competitions.RaceEngine;
+import Competitions.RaceLifecycle;
+import Competitions.RelayCoordinator;
+import Competitions.RefereeService;
+import Competitions.TickScheduler;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -10,14 +20,37 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *
  * The thread waits for a start signal, then continuously updates the animal's position
  * until it either reaches the required distance or can no longer move. The thread also
- * updates a finish flag once the animal has completed its movement.
+ * updates a finish flag once the animal has completed its movement. The finish is also published
+ * to the {@link RefereeService}, so the referees do not have to poll the animal.
+ *
+ * No monitor is used: the start signal and the finish flag are atomics, the thread never holds a lock while it sleeps,
+ * and every participant owns its finish flag. Other threads read the animals from the snapshots of the race,
+ * not from the participant.
+ *
+ * Instead of running on its own thread, an `AnimalThread` can also be stepped by the {@link TickScheduler},
+ * which moves many animals from a small pool of threads.
+ *
+ * When a {@link RaceEngine} drives the race, the engine is the only component that moves the animals and publishes
+ * their finish events. The participant is then never run or stepped. It is finished by the finish event of the engine,
+ * which it receives through the {@link RaceLifecycle}, and only tells the race it is done and hands the baton on.
+ *
+ * Every step stands for SLEEPTIME milliseconds of race time. The participant counts its own race time, starting when
+ * its relay leg receives the baton, so its finish time is the same at any race speed and on any clock.
+ * All the waits of the thread go through the {@link IRaceClock} of the race, so the clock only changes
+ * how long the thread waits between two steps.
  */
-public class AnimalThread implements Runnable {
+public class AnimalThread implements Runnable, ISteppable, IFinishListener {
     private static final int SLEEPTIME=50;
-    private Animal participant; // The animal we promote
-    private double neededDistance; // The distance required to travel from start to finish
-    private AtomicBoolean startLock; // Shared lock object to synchronize start
-    private static AtomicBoolean finishFlag; // A flag that signals that the animal has traveled the required distance and finished
+    private final Animal participant; // The animal we promote
+    private final double neededDistance; // The distance required to travel from start to finish
+    private final AtomicBoolean startLock; // Shared flag that signals the start of the tournament
+    private final AtomicBoolean finishFlag; // A flag that signals that this animal has finished
+    private long raceMillis = -1; // The race time of the participant, -1 until it starts moving
+    private final RaceLifecycle.Registration lifecycle; // Tells the race when the participant is done
+    private final boolean engineDriven; // Marks that an engine moves the animal and publishes its finish
+    private final IRaceClock clock; // The clock the participant waits on
+    private final RelayCoordinator relay; // The baton of the courier relay the participant runs in, null in a regular race
+    private final int leg; // The leg of the relay the participant runs
 
     /**
      * Constructs an `AnimalThread` with the specified participant, needed distance, start lock, and finish flag.
@@ -28,6 +61,22 @@ public class AnimalThread implements Runnable {
      * @param finishFlag The flag that indicates when the animal has finished its race.
      */
     public AnimalThread(Animal participant, double neededDistance, AtomicBoolean startLock, AtomicBoolean finishFlag) {
+        this(participant, neededDistance, startLock, finishFlag, null, -1);
+    }
+
+    /**
+     * Constructs an `AnimalThread` for a leg of a courier relay. The participant only starts moving
+     * once the tournament has started and the relay hands it the baton, and it hands the baton on when it finishes.
+     *
+     * @param participant The animal that this thread controls.
+     * @param neededDistance The distance the animal needs to travel to finish its leg.
+     * @param startLock The shared lock object used to synchronize the start of the tournament.
+     * @param finishFlag The flag that indicates when the animal has finished its race.
+     * @param relay The relay the participant runs in, or null for a regular race.
+     * @param leg The leg of the relay the participant runs.
+     */
+    public AnimalThread(Animal participant, double neededDistance, AtomicBoolean startLock, AtomicBoolean finishFlag,
+                        RelayCoordinator relay, int leg) {
         this.participant = participant;
         this.neededDistance = neededDistance;
         if(startLock == null){
@@ -35,60 +84,130 @@ public class AnimalThread implements Runnable {
         } else{
             this.startLock = startLock;
         }
-        this.finishFlag = finishFlag;
+        this.finishFlag = finishFlag == null ? new AtomicBoolean(false) : finishFlag;
+        this.relay = relay;
+        this.leg = leg;
+        RaceLifecycle race = RaceLifecycle.getCurrent();
+        this.lifecycle = race.register(RaceLifecycle.Role.PARTICIPANT);
+        this.clock = race.getClock();
+        this.engineDriven = race.isEngineDriven();
     }
 
     /**
      * The main run method for the thread. It waits for the start signal, then updates the animal's
      * position until it either reaches the needed distance or can no longer move.
-     * Once the animal finishes, the finish flag is set and notified.
+     * Once the animal finishes, the finish flag is set.
      */
     @Override
     public void run() {
-        while (true) {
-            // Wait for the tournament to start
-            synchronized (startLock) {
-                while (!startLock.get()) {
-                    try {
-                        startLock.wait();
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }
+        // Wait for the tournament to start, polling the flag instead of waiting on its monitor
+        try {
+            while (!startLock.get()) {
+                clock.sleep(SLEEPTIME);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
 
-            synchronized (participant) {
-                Mobility.Point nextLocation = new Mobility.Point(
-                        (int) (participant.getLocation().getX() + participant.getSpeed()),
-                        participant.getLocation().getY());
-                if(!participant.move(nextLocation)){
-                    synchronized (finishFlag) {
-                        finishFlag.set(true);
-                        finishFlag.notifyAll();
-                    }
-                }
-                CompetitionFrame.getFrame().repaint();
-
-                if(!participant.canMove()){
-                    break;
-                }
-                if (participant.getTotalDistance() >= neededDistance) {
-                    synchronized (finishFlag) {
-                        finishFlag.set(true);
-                        finishFlag.notifyAll();
-                    }
-                    break;
-                }
+        // Wait for the baton, the previous leg hands it over the moment it finishes
+        if (relay != null) {
+            try {
+                relay.awaitLeg(leg);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
 
-                try {
-                    Thread.sleep(SLEEPTIME);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
+        while (!step()) {
+            try {
+                clock.sleep(SLEEPTIME); // A step takes less wall clock time at a higher speed, and none on a simulated clock
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
         }
     }
 
+    /**
+     * Performs a single step of the animal. Nothing happens until the start signal is given,
+     * afterwards the animal moves forward and the finish flag is set once it has finished.
+     * This method is called by the thread of this object or by the {@link TickScheduler}.
+     *
+     * @return true if the animal has finished its race, false otherwise.
+     */
+    @Override
+    public boolean step() {
+        if (!startLock.get()) {
+            return false; // The tournament has not started yet
+        }
+        if (relay != null && !relay.isRunning(leg)) {
+            return false; // The previous leg has not handed over the baton yet
+        }
+
+        if (raceMillis < 0) {
+            raceMillis = relay == null ? 0 : relay.getHandOffMillis(); // The leg starts when the baton is handed over
+        }
+        participant.advance();
+        raceMillis += SLEEPTIME;
+        if (CompetitionFrame.competitionPanel != null && Tick.isRenderingEnabled()) {
+            CompetitionFrame.competitionPanel.animalMoved(participant); // Repaint only the area the animal left and entered
+        }
+
+        if (!participant.canMove() || participant.getTotalDistance() >= neededDistance) {
+            finish();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the participant is waiting for the start signal of the tournament or for the baton of its relay.
+     *
+     * @return true if a step would not move the animal, false otherwise.
+     */
+    @Override
+    public boolean isWaiting() {
+        return !startLock.get() || (relay != null && !relay.isRunning(leg));
+    }
+
+    /**
+     * Finishes the participant of an engine driven race when the engine reports that its animal finished.
+     * The race time of the participant becomes the time of the engine tick the animal finished in.
+     *
+     * @param event The event describing the animal that finished.
+     */
+    @Override
+    public void onFinish(FinishEvent event) {
+        raceMillis = TimeUnit.NANOSECONDS.toMillis(event.getRaceNanos());
+        finish();
+    }
+
+    /**
+     * Sets the finish flag, publishes the finish of the participant to the {@link RefereeService} and tells the race it is done.
+     * When an engine drives the race, the finish event is left to the engine.
+     */
+    private void finish() {
+        finishFlag.set(true);
+        if (!engineDriven) {
+            RefereeService.getInstance().onFinish(new FinishEvent(participant, TimeUnit.MILLISECONDS.toNanos(raceMillis)));
+        }
+        lifecycle.arrive();
+        if (relay != null) {
+            relay.handOff(leg, raceMillis); // The next leg starts at once
+        }
+    }
+
+    /**
+     * Checks if the participant has finished.
+     *
+     * @return true if the finish flag of this participant is set, false otherwise.
+     */
+    public boolean isFinished() {
+        return finishFlag.get();
+    }
+
     /**
      * Gets the participant (animal) associated with this thread.
      *
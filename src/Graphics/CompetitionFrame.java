@@ -5,7 +5,6 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
-import javax.swing.table.DefaultTableModel;
 import Animals.*;
 import Competitions.*;
 import java.util.List;
@@ -20,17 +19,17 @@ public class CompetitionFrame extends JFrame {
     JTable infoTable = new JTable(infoTableModel);
     private final int ENERGY_TO_ADD = 100;
     static CompetitionPanel competitionPanel;
+    private static ActiveRaceView activeRaceView; // The race view of the active rendering mode, created on first use
     private static Timer raceTimer;
     private static JButton playButton; // Declare playButton at class level for accessibility
     private static boolean raceStarted = false;
     private static AddCompetitionDialog dialog;
-    private static DefaultTableModel infoTableModel = new DefaultTableModel(new String[]{"Animal", "Category", "Type", "Speed", "Energy Amount", "Distance", "Energy Consumption"}, 0);
+    private static AnimalInfoTableModel infoTableModel = new AnimalInfoTableModel(); // One row per animal, indexed by id and name
     private static CompetitionFrame instance;
     private static AnimalTableModel animalTableModel;
     protected static java.util.List<AnimalThread> courierAnimalThreads = new ArrayList<>(); // List of AnimalThreads for handling animal movements.
     protected static java.util.List<AnimalThread> regularAnimalThreads = new ArrayList<>(); // List of AnimalThreads for handling animal movements.
     private static List<Referee> allReferees = new ArrayList<>();
-    private static List<Scores> allScores = new ArrayList<>();
     private static Tick tick;
 
     /**
@@ -69,8 +68,12 @@ public class CompetitionFrame extends JFrame {
     /**
      * Sets up the menu bar for the frame.
      * Creates and configures the "File" menu with an "Exit" menu item that closes the application.
+     * Creates and configures the "Execution Mode" menu that selects how the race runners are executed.
+     * Creates and configures the "Speed" menu that selects how fast the races are simulated.
+     * Creates and configures the "Rendering" menu that selects between passive Swing painting and active rendering,
+     * and turns the drawing of the race on or off.
      * Creates and configures the "Help" menu with a "Help" menu item that displays help information.
-     * Adds the "File" and "Help" menus to the menu bar.
+     * Adds the "File", "Execution Mode", "Speed", "Rendering" and "Help" menus to the menu bar.
      *
      * @return The configured JMenuBar instance.
      */
@@ -81,17 +84,86 @@ public class CompetitionFrame extends JFrame {
         exitMenuItem.addActionListener(e -> System.exit(0));
         fileMenu.add(exitMenuItem);
 
+        // Let the user choose how the animals and tournaments are executed
+        JMenu modeMenu = new JMenu("Execution Mode");
+        ButtonGroup modeGroup = new ButtonGroup();
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            JRadioButtonMenuItem modeMenuItem = new JRadioButtonMenuItem(mode.name(), mode == ExecutionMode.getCurrent());
+            modeMenuItem.setEnabled(mode.isAvailable()); // Virtual threads need Java 21
+            modeMenuItem.addActionListener(e -> ExecutionMode.setCurrent(mode));
+            modeGroup.add(modeMenuItem);
+            modeMenu.add(modeMenuItem);
+        }
+
+        // Let the user fast-forward the races, the results stay the same at any speed
+        JMenu speedMenu = new JMenu("Speed");
+        ButtonGroup speedGroup = new ButtonGroup();
+        for (RaceSpeed speed : RaceSpeed.values()) {
+            JRadioButtonMenuItem speedMenuItem = new JRadioButtonMenuItem(speed.toString(), speed == RaceSpeed.getCurrent());
+            speedMenuItem.addActionListener(e -> RaceSpeed.setCurrent(speed));
+            speedGroup.add(speedMenuItem);
+            speedMenu.add(speedMenuItem);
+        }
+
+        // Let the user choose how the race view is painted
+        JMenu renderingMenu = new JMenu("Rendering");
+        ButtonGroup renderingGroup = new ButtonGroup();
+        JRadioButtonMenuItem passiveMenuItem = new JRadioButtonMenuItem("Passive (Swing)", true);
+        JRadioButtonMenuItem activeMenuItem = new JRadioButtonMenuItem("Active (BufferStrategy)");
+        passiveMenuItem.addActionListener(e -> setActiveRendering(false));
+        activeMenuItem.addActionListener(e -> setActiveRendering(true));
+        renderingGroup.add(passiveMenuItem);
+        renderingGroup.add(activeMenuItem);
+        renderingMenu.add(passiveMenuItem);
+        renderingMenu.add(activeMenuItem);
+        renderingMenu.addSeparator();
+        JCheckBoxMenuItem drawRaceMenuItem = new JCheckBoxMenuItem("Draw Race", Tick.isRenderingEnabled());
+        drawRaceMenuItem.addActionListener(e -> Tick.setRenderingEnabled(drawRaceMenuItem.isSelected()));
+        renderingMenu.add(drawRaceMenuItem);
+
         JMenu helpMenu = new JMenu("Help");
         JMenuItem helpMenuItem = new JMenuItem("Help");
         helpMenuItem.addActionListener(e -> JOptionPane.showMessageDialog(this, "Home work 2\nGUI", "Help", JOptionPane.INFORMATION_MESSAGE));
         helpMenu.add(helpMenuItem);
 
         menuBar.add(fileMenu);
+        menuBar.add(modeMenu);
+        menuBar.add(speedMenu);
+        menuBar.add(renderingMenu);
         menuBar.add(helpMenu);
 
         return menuBar;
     }
 
+    /**
+     * Switches the race view between the passive {@link CompetitionPanel} and the {@link ActiveRaceView}.
+     * The competition panel stays the owner of the animals, the active view only draws them on its own thread.
+     *
+     * @param active true to draw the race with the active view, false to return to the competition panel.
+     */
+    private void setActiveRendering(boolean active) {
+        if (active == (activeRaceView != null && activeRaceView.isRunning())) {
+            return; // Already in the requested mode
+        }
+        if (active) {
+            if (activeRaceView == null) {
+                activeRaceView = new ActiveRaceView();
+            }
+            remove(competitionPanel);
+            add(activeRaceView, BorderLayout.CENTER);
+            validate();
+            if (activeRaceView.start()) {
+                return;
+            }
+            // The view could not start, fall back to the competition panel
+        }
+        activeRaceView.stop();
+        remove(activeRaceView);
+        add(competitionPanel, BorderLayout.CENTER);
+        validate();
+        competitionPanel.repaint();
+    }
+
     /**
      * Sets up the control panel with various buttons for interacting with the competition.
      * Creates buttons for adding competitions, adding animals, clearing animals, feeding animals,
@@ -168,14 +240,34 @@ public class CompetitionFrame extends JFrame {
     /**
      * Toggles the start of the race for both regular and courier tournaments, and initializes the referees for each group.
      * This method handles the initialization and starting of threads responsible for managing the competition, including
-     * the tick thread, regular tournament thread, courier tournament thread, and referee threads.
+     * the tick thread, regular tournament thread and courier tournament thread. The referees are registered first,
+     * so they track the race from its very first tick.
      *
      * @param e The ActionEvent triggered by the UI component that invokes this method.
      */
     private void toggleRace(ActionEvent e) {
+        RaceLifecycle race = RaceLifecycle.begin(); // Everything created below belongs to the new race
+        race.setEngineDriven(true); // The engine of the tick moves the animals, the participants are not started
+
+        // Initialize referees for each group, they are notified by the referee service when an animal finishes.
+        // They are registered before the race can start, so no finish event is published without its referee.
+        RefereeService.getInstance().reset();
+        for (AnimalGroup group : AnimalTableModel.getRegistry().getGroups()) {
+            Referee referee = new Referee(group);
+            RefereeService.getInstance().register(referee);
+            CompetitionFrame.addReferee(referee);  // add the referee
+        }
 
-        // Start the tick thread
-        Tick tick = new Tick(AnimalTableModel.getAnimalGroups(), allReferees);  // Pass referees here
+        // Build the engine here, before any thread of the race starts, since it moves the animals the panel paints.
+        // The panel stops positioning the animals once the race is marked as started.
+        RaceEngine engine = null;
+        if (Tick.isStarting()) {
+            engine = Tick.prepareRace(race);
+            CompetitionFrame.setRaceStarted(true);
+        }
+
+        // Start the tick thread, which starts the prepared race or stops the running one
+        Tick tick = new Tick(engine, allReferees);  // Pass referees here
         this.tick = tick;
         new Thread(tick).start();
 
@@ -183,8 +275,7 @@ public class CompetitionFrame extends JFrame {
         if (!AnimalTableModel.getRegularAnimalGroups().isEmpty()) {
             AtomicBoolean startFlag = new AtomicBoolean(false);
             TournamentThread regularTournamentThread = new TournamentThread(startFlag, AnimalTableModel.getRegularAnimalGroups().size(), "regular");
-            Thread thread = new Thread(regularTournamentThread);
-            thread.start();
+            ExecutionMode.getCurrent().start(regularTournamentThread, "Tournament-regular");
 
             RegularTournament regularTournament = new RegularTournament(
                     AnimalTableModel.getRegularAnimalGroups(),
@@ -200,7 +291,7 @@ public class CompetitionFrame extends JFrame {
         if (!AnimalTableModel.getCourierAnimalGroups().isEmpty()) {
             AtomicBoolean startFlag = new AtomicBoolean(false);
             TournamentThread courierTournamentThread = new TournamentThread(startFlag, AnimalTableModel.getCourierAnimalGroups().size(), "courier");
-            new Thread(courierTournamentThread).start();
+            ExecutionMode.getCurrent().start(courierTournamentThread, "Tournament-courier");
 
             // Determine group type more reliably
             String groupType = null;
@@ -224,15 +315,6 @@ public class CompetitionFrame extends JFrame {
                 System.err.println("No valid group type found for the courier tournament.");
             }
         }
-
-        // Initialize referees for each group
-        for (int i = 0; i < AnimalTableModel.getAnimalGroups().size(); i++) {
-            String competitionType = AnimalTableModel.getGroupCompetitionType(i);
-            Referee referee = new Referee(AnimalTableModel.getGroupName(i), competitionType);
-            Thread refereeThread = new Thread(referee);
-            refereeThread.start();
-            CompetitionFrame.addReferee(referee);  // add the referee
-        }
     }
 
     /**
@@ -325,12 +407,7 @@ public class CompetitionFrame extends JFrame {
      * @return The Animal object with the given name, or null if no animal with that name exists.
      */
     private Animal findAnimalByName(String name) {
-        for (Animal animal : competitionPanel.getAnimals()) {
-            if (animal.getName().equals(name)) {
-                return animal;
-            }
-        }
-        return null;
+        return infoTableModel.findAnimal(name);
     }
 
     /**
@@ -339,25 +416,17 @@ public class CompetitionFrame extends JFrame {
      * @param animal The animal whose information needs to be updated.
      */
     public static void updateAnimalInfo(Animal animal) {
-        for (int i = 0; i < infoTableModel.getRowCount(); i++) {
-            String animalName = (String) infoTableModel.getValueAt(i, 0);
-            if (animalName.equals(animal.getName())) {
-                infoTableModel.setValueAt(animal.getEnergy(), i, 4);
-                infoTableModel.setValueAt(animal.getTotalDistance(), i, 5);
-                infoTableModel.setValueAt(animal.getEnergyPerMeter(), i, 6);
-                break;
-            }
-        }
-        competitionPanel.repaint();
+        infoTableModel.updateAnimal(animal); // The table is told about all the updated rows once per frame
+        competitionPanel.animalMoved(animal); // Repainted in the next frame, only if the animal moved
     }
 
     /**
      * Returns the table model that holds the information about the animals in the competition.
      * This static method allows other parts of the application to access the table model.
      *
-     * @return The DefaultTableModel containing animal information.
+     * @return The AnimalInfoTableModel containing animal information.
      */
-    public static DefaultTableModel getInfoTableModel() {
+    public static AnimalInfoTableModel getInfoTableModel() {
         return infoTableModel;
     }
 
@@ -516,16 +585,7 @@ public class CompetitionFrame extends JFrame {
      * @param animalName The name of the animal to be removed.
      */
     public void removeAnimalFromInfoTableByName(String animalName) {
-        // Iterate through each row in the infoTableModel
-        for (int i = 0; i < infoTableModel.getRowCount(); i++) {
-            String currentAnimalName = (String) infoTableModel.getValueAt(i, 0); // Get the animal name in the current row
-
-            // Check if the current row contains the animal with the specified name
-            if (currentAnimalName.equals(animalName)) {
-                infoTableModel.removeRow(i); // Remove the row from the table model
-                return; // Exit the method after removing the animal
-            }
-        }
+        infoTableModel.removeAnimal(animalName); // The model finds the row through its name index
     }
 
     public static void addReferee(Referee referee){
@@ -552,59 +612,6 @@ public class CompetitionFrame extends JFrame {
         return null; // Return null if no referee is found for the specified team name
     }
 
-    /**
-     * Retrieves the list of all Scores objects.
-     *
-     * @return A List containing all the Scores objects that have been recorded.
-     */
-    public static List<Scores> getAllScores(){
-        return allScores;
-    }
-
-    /**
-     * Creates a new Scores object, adds the specified group name to it, and stores it in the list of all scores.
-     *
-     * @param groupName The name of the group to be added to the new Scores object.
-     */
-    public synchronized static void addScore(String groupName){
-        //System.out.println("add Score to group: " + groupName);
-        Scores score = new Scores();
-        score.add(groupName);
-        allScores.add(score);
-    }
-
-    /**
-     * Adds an existing Scores object to the list of all scores.
-     *
-     * @param score The Scores object to be added to the list.
-     */
-    public static void addScoreObj(Scores score){
-        allScores.add(score);
-    }
-
-    /**
-     * Retrieves the Scores object associated with the specified group name.
-     *
-     * @param groupName The name of the group whose Scores object is to be retrieved.
-     * @return The Scores object associated with the specified group name, or null if not found.
-     */
-    public static Scores getScore(String groupName) {
-        Scores scoreObj = null;
-
-        for (Scores score : allScores) {
-            if (score.getScore(groupName) != null) {
-                scoreObj = score;
-                break;
-            }
-        }
-
-        if (scoreObj != null) {
-            return scoreObj;
-        } else {
-            return null;
-        }
-    }
-
     /**
      * Retrieves the singleton instance of the Tick object.
      *
@@ -1,20 +1,33 @@
 package Graphics;
 
 import Animals.*;
+import Competitions.RaceSnapshot;
 import javax.swing.*;
 import java.awt.*;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class represents the panel where the competition takes place.
  * It manages the display and animation of animals participating in the competition.
+ * While a race is running the animals are painted from the latest {@link RaceSnapshot} of the race,
+ * so a paint never sees an animal that the simulation is moving at the same time. The animals are interpolated
+ * between the previous snapshot and the latest one, and the panel keeps repainting the animals every frame of the
+ * {@link RenderScheduler} until they reach the positions of the latest snapshot, so they move smoothly
+ * even when the race is simulated at a few ticks per second.
  */
 public class CompetitionPanel extends JPanel {
-    private static ImageIcon backgroundImage; // Background image of the competition track.
+    private static TrackBackground backgroundImage; // Background image of the competition track, scaled once per panel size.
     static private Animal[] animals; // Array of animals participating in the competition.
     private static String[] openCompetitions; // Array of competition names that are currently open.
+    private final transient Map<Animal, Rectangle> paintedBounds = new IdentityHashMap<>(); // The area every animal was last painted in
+    private final transient DirtyRegions dirtyRegions = new DirtyRegions(); // The areas to repaint in the next frame
+    private final transient Runnable flushTask = this::flushDirtyRegions; // The render task that paints the dirty regions
+    private transient volatile RaceSnapshot frameSnapshot; // The snapshot the current frame is painted from
+    private volatile double frameAlpha = 1; // The interpolation factor of the current frame
     public static double getBackgroundWidth(){
-        return backgroundImage.getIconWidth();
+        return backgroundImage.getWidth();
     }
 
     /**
@@ -22,8 +35,8 @@ public class CompetitionPanel extends JPanel {
      * the background image, layout, and initial configurations for the competition.
      */
     public CompetitionPanel() {
-        // Load and set the background image from a specified path on the local file system.
-        backgroundImage = new ImageIcon("C:\\Users\\ariel\\intellijProjects\\AdvancedOopHomework\\src\\Graphics\\Images\\competitionBackground2.png");
+        // Load the background image from the classpath, it is scaled to the panel size on the first paint.
+        backgroundImage = new TrackBackground("competitionBackground2.png");
 
         // Initialize the list of animals participating in the competition to an empty array.
         animals = new Animal[0];
@@ -50,7 +63,7 @@ public class CompetitionPanel extends JPanel {
      */
     @Override
     public Dimension getPreferredSize() {
-        return new Dimension(backgroundImage.getIconWidth(), backgroundImage.getIconHeight());
+        return new Dimension(backgroundImage.getWidth(), backgroundImage.getHeight());
     }
 
     /**
@@ -106,6 +119,9 @@ public class CompetitionPanel extends JPanel {
                     newAnimals[j++] = animals[i];
                 }
             }
+            synchronized (paintedBounds) {
+                paintedBounds.remove(animals[indexToRemove]); // The removed animal is not painted anymore
+            }
             setAnimals(newAnimals); // Update the animals array to the new array without the removed animal.
 
             //remove animal from all groups table
@@ -129,8 +145,8 @@ public class CompetitionPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        // Draw the background image scaled to the size of the panel.
-        g.drawImage(backgroundImage.getImage(), 0, 0, getWidth(), getHeight(), this);
+        // Draw the cached background layer, it is only scaled again when the panel is resized.
+        backgroundImage.paint(g, this);
 
         // Position the animals if the race hasn't started.
         if (!CompetitionFrame.isRaceStarted()) {
@@ -153,9 +169,156 @@ public class CompetitionPanel extends JPanel {
             }
         }
 
-        // Draw all animals
+        // Draw all animals and remember where they were painted
+        Rectangle clip = g.getClipBounds();
+        RaceSnapshot snapshot = currentSnapshot();
+        double alpha = snapshot != null && snapshot == frameSnapshot ? frameAlpha : 1; // Paint where the frame was marked
         for (Animal animal : animals) {
+            drawAnimal(g, animal, snapshot, alpha);
+            recordPaintedBounds(animal, clip, snapshot, alpha);
+        }
+    }
+
+    /**
+     * Retrieves the snapshot the animals should be painted from.
+     *
+     * @return The latest snapshot of the running race, or null if no race is running.
+     */
+    static RaceSnapshot currentSnapshot() {
+        return CompetitionFrame.isRaceStarted() ? Tick.getSnapshot() : null;
+    }
+
+    /**
+     * Draws an animal between its positions in the previous and the latest snapshot,
+     * or at its current location if it is not part of the snapshot.
+     *
+     * @param g The Graphics context to draw on.
+     * @param animal The animal to draw.
+     * @param snapshot The snapshot to draw from, or null to draw the current state of the animal.
+     * @param alpha The interpolation factor, as returned by {@link RaceSnapshot#interpolationAlpha(long)}.
+     */
+    static void drawAnimal(Graphics g, Animal animal, RaceSnapshot snapshot, double alpha) {
+        int index = snapshot == null ? -1 : snapshot.indexOf(animal);
+        if (index < 0) {
             animal.drawObject(g);
+        } else {
+            animal.drawAt(g, snapshot.getInterpolatedX(index, alpha), snapshot.getInterpolatedY(index, alpha), snapshot.getOrientation(index));
+        }
+    }
+
+    /**
+     * Calculates the area an animal is painted in.
+     *
+     * @param animal The animal.
+     * @param snapshot The snapshot the animal is painted from, or null if it is painted from its current state.
+     * @param alpha The interpolation factor of the paint.
+     * @return The bounds of the painted area.
+     */
+    private static Rectangle paintBoundsOf(Animal animal, RaceSnapshot snapshot, double alpha) {
+        int index = snapshot == null ? -1 : snapshot.indexOf(animal);
+        if (index < 0) {
+            return animal.getPaintBounds();
+        }
+        return animal.getPaintBounds(snapshot.getInterpolatedX(index, alpha), snapshot.getInterpolatedY(index, alpha));
+    }
+
+    /**
+     * Remembers the area an animal was painted in, so the next move repaints exactly that area.
+     * If the animal was only partly inside the clip, the old area is kept as well,
+     * so the next move also repaints the parts that were not painted.
+     *
+     * @param animal The painted animal.
+     * @param clip The clip of the paint, or null if the whole panel was painted.
+     * @param snapshot The snapshot the animal was painted from, or null.
+     * @param alpha The interpolation factor of the paint.
+     */
+    private void recordPaintedBounds(Animal animal, Rectangle clip, RaceSnapshot snapshot, double alpha) {
+        Rectangle bounds = paintBoundsOf(animal, snapshot, alpha);
+        synchronized (paintedBounds) {
+            Rectangle previous = paintedBounds.get(animal);
+            if (clip != null && !clip.contains(bounds) && previous != null) {
+                bounds.add(previous);
+            }
+            paintedBounds.put(animal, bounds);
+        }
+    }
+
+    /**
+     * Marks the old and the new area of an animal as dirty and schedules a repaint of the dirty regions.
+     * Nothing is repainted if the animal is still where it was painted.
+     * This method may be called from any thread.
+     *
+     * @param animal The animal that moved.
+     */
+    public void animalMoved(Animal animal) {
+        RaceSnapshot snapshot = currentSnapshot();
+        double alpha = snapshot != null && snapshot == frameSnapshot ? frameAlpha : 1;
+        if (markMoved(animal, snapshot, alpha)) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Starts a new frame: marks the old and the new area of every animal that moved as dirty and schedules a repaint
+     * of the dirty regions. While the animals are still on their way to the latest snapshot, the repaint starts
+     * the next frame again. This method may be called from any thread.
+     */
+    public void animalsMoved() {
+        boolean dirty = false;
+        RaceSnapshot snapshot = currentSnapshot();
+        double alpha = snapshot == null ? 1 : snapshot.interpolationAlpha(System.nanoTime());
+        frameSnapshot = snapshot;
+        frameAlpha = alpha;
+        for (Animal animal : animals) {
+            dirty |= markMoved(animal, snapshot, alpha);
+        }
+        if (dirty || alpha < 1) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Adds the old and the new area of an animal to the dirty regions if the animal moved.
+     *
+     * @param animal The animal to check.
+     * @param snapshot The snapshot the animal is painted from, or null.
+     * @param alpha The interpolation factor of the frame.
+     * @return true if the animal moved, false otherwise.
+     */
+    private boolean markMoved(Animal animal, RaceSnapshot snapshot, double alpha) {
+        Rectangle bounds = paintBoundsOf(animal, snapshot, alpha);
+        Rectangle previous;
+        synchronized (paintedBounds) {
+            previous = paintedBounds.put(animal, bounds); // The flush paints the animal in its new area
+        }
+        if (bounds.equals(previous)) {
+            return false;
+        }
+        dirtyRegions.add(bounds);
+        if (previous != null) {
+            dirtyRegions.add(previous);
+        }
+        return true;
+    }
+
+    /**
+     * Requests a flush of the dirty regions in the next frame of the {@link RenderScheduler}.
+     * Moves that are reported before the frame runs are painted by the same flush.
+     */
+    private void scheduleFlush() {
+        RenderScheduler.getInstance().requestRender(flushTask);
+    }
+
+    /**
+     * Paints every dirty region separately, so the space between distant animals is not repainted.
+     * If the animals have not reached the latest snapshot yet, the next frame is started.
+     */
+    private void flushDirtyRegions() {
+        for (Rectangle region : dirtyRegions.drain()) {
+            paintImmediately(region);
+        }
+        if (frameSnapshot != null && frameAlpha < 1) {
+            animalsMoved(); // Keep interpolating until the animals reach the latest snapshot
         }
     }
 
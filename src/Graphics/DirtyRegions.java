@@ -0,0 +1,85 @@
+package Graphics;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The DirtyRegions class collects the parts of a component that have to be repainted in the next frame.
+ * Overlapping rectangles are merged into their union, so every pixel is painted at most once per frame,
+ * while rectangles that are far apart stay separate and the space between them is not repainted.
+ * The class is thread safe, regions can be added by any thread and are drained by the event dispatch thread.
+ */
+public class DirtyRegions {
+    public static final int MAX_REGIONS = 32; // Above this number all the regions are merged into one
+
+    private final List<Rectangle> regions = new ArrayList<>(); // The disjoint dirty regions of the current frame
+
+    /**
+     * Marks a rectangle as dirty, merging it with every region it overlaps or touches.
+     *
+     * @param rectangle The dirty rectangle. It is copied, so the caller may reuse it.
+     */
+    public synchronized void add(Rectangle rectangle) {
+        if (rectangle.isEmpty()) {
+            return;
+        }
+        Rectangle merged = new Rectangle(rectangle);
+        boolean changed = true;
+        while (changed) {
+            // A merged rectangle can reach regions it did not overlap before, so repeat until nothing changes
+            changed = false;
+            for (int i = regions.size() - 1; i >= 0; i--) {
+                Rectangle region = regions.get(i);
+                if (touches(region, merged)) {
+                    merged.add(region);
+                    regions.remove(i);
+                    changed = true;
+                }
+            }
+        }
+        regions.add(merged);
+
+        if (regions.size() > MAX_REGIONS) {
+            // Too many small regions cost more than painting their bounding box once
+            Rectangle union = new Rectangle(regions.get(0));
+            for (Rectangle region : regions) {
+                union.add(region);
+            }
+            regions.clear();
+            regions.add(union);
+        }
+    }
+
+    /**
+     * Removes and returns all the dirty regions of the current frame.
+     *
+     * @return The disjoint dirty regions, empty if nothing has to be repainted.
+     */
+    public synchronized List<Rectangle> drain() {
+        List<Rectangle> drained = new ArrayList<>(regions);
+        regions.clear();
+        return drained;
+    }
+
+    /**
+     * Checks if there are dirty regions.
+     *
+     * @return true if nothing has to be repainted, false otherwise.
+     */
+    public synchronized boolean isEmpty() {
+        return regions.isEmpty();
+    }
+
+    /**
+     * Checks if two rectangles overlap or share an edge.
+     *
+     * @param a The first rectangle.
+     * @param b The second rectangle.
+     * @return true if the rectangles overlap or touch, false otherwise.
+     */
+    private static boolean touches(Rectangle a, Rectangle b) {
+        return a.x <= b.x + b.width && b.x <= a.x + a.width
+                && a.y <= b.y + b.height && b.y <= a.y + a.height;
+    }
+}
@@ -0,0 +1,203 @@
+package Graphics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The RenderScheduler class is the single place that turns "state changed" notifications into paints.
+ * Any thread can request a render task, and the scheduler runs all the pending tasks together on the
+ * event dispatch thread once per frame, at most at the target frame rate. A task that is requested many times
+ * before the next frame runs only once, so the event queue never fills with redundant paint events.
+ *
+ * If the previous frame is still running when the next frame is due, the frame is counted as dropped and the
+ * pending tasks wait for the following frame. The counters can be read to monitor the rendering load.
+ * The initial frame rate is read from the {@code render.fps} system property.
+ */
+public class RenderScheduler {
+    public static final int DEFAULT_FPS = 60; // The frame rate used when none is configured
+    public static final int MAX_FPS = 240; // The highest frame rate that can be set
+
+    private static RenderScheduler instance; // The scheduler shared by the whole application
+    private final ScheduledExecutorService ticker; // Signals the start of every frame
+    private ScheduledFuture<?> frames; // The periodic frame signal at the current frame rate
+    private int targetFps; // The maximum number of frames per second
+    private final Set<Runnable> pending = ConcurrentHashMap.newKeySet(); // The tasks of the next frame
+    private final Map<Component, Runnable> repaintTasks = new ConcurrentHashMap<>(); // The repaint task of every component
+    private final AtomicBoolean frameInFlight = new AtomicBoolean(false); // Marks a frame that was posted and has not finished
+    private final AtomicLong renderedFrames = new AtomicLong(); // The number of frames that ran
+    private final AtomicLong droppedFrames = new AtomicLong(); // The number of frames skipped because the previous one was late
+    private final AtomicLong totalFrameNanos = new AtomicLong(); // The total time spent running frames
+    private volatile long lastFrameNanos = 0; // The time the last frame took
+
+    /**
+     * Constructs the RenderScheduler and starts the frame signal at the configured frame rate.
+     */
+    private RenderScheduler() {
+        ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "RenderScheduler");
+            thread.setDaemon(true); // The scheduler should not keep the application alive
+            return thread;
+        });
+        targetFps = fpsFromProperty();
+        startFrames();
+    }
+
+    /**
+     * Retrieves the scheduler shared by the whole application, creating it on first use.
+     *
+     * @return The RenderScheduler instance.
+     */
+    public static synchronized RenderScheduler getInstance() {
+        if (instance == null) {
+            instance = new RenderScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Requests a task to run in the next frame. Requesting the same task again before the frame runs has no effect.
+     * This method may be called from any thread.
+     *
+     * @param task The task to run on the event dispatch thread.
+     */
+    public void requestRender(Runnable task) {
+        pending.add(task);
+    }
+
+    /**
+     * Requests a full repaint of a component in the next frame.
+     * This method may be called from any thread.
+     *
+     * @param component The component to repaint. Nothing happens if it is null.
+     */
+    public void requestRepaint(Component component) {
+        if (component != null) {
+            requestRender(repaintTasks.computeIfAbsent(component, c -> c::repaint));
+        }
+    }
+
+    /**
+     * Sets the maximum number of frames per second.
+     *
+     * @param targetFps The frame rate, between 1 and MAX_FPS.
+     * @return true if the frame rate was set successfully, false otherwise.
+     */
+    public synchronized boolean setTargetFps(int targetFps) {
+        if (targetFps < 1 || targetFps > MAX_FPS) {
+            System.out.println("Error: Target FPS must be between 1 and " + MAX_FPS);
+            return false;
+        }
+        this.targetFps = targetFps;
+        frames.cancel(false);
+        startFrames();
+        return true;
+    }
+
+    public synchronized int getTargetFps() { return targetFps; }
+
+    public long getRenderedFrames() { return renderedFrames.get(); }
+
+    public long getDroppedFrames() { return droppedFrames.get(); }
+
+    /**
+     * Retrieves the time the last frame took to run its tasks.
+     *
+     * @return The frame time in nanoseconds.
+     */
+    public long getLastFrameNanos() { return lastFrameNanos; }
+
+    /**
+     * Calculates the average time a frame took to run its tasks.
+     *
+     * @return The average frame time in nanoseconds, or 0 if no frame ran yet.
+     */
+    public long getAverageFrameNanos() {
+        long frameCount = renderedFrames.get();
+        return frameCount == 0 ? 0 : totalFrameNanos.get() / frameCount;
+    }
+
+    /**
+     * Resets the frame counters.
+     */
+    public void resetCounters() {
+        renderedFrames.set(0);
+        droppedFrames.set(0);
+        totalFrameNanos.set(0);
+        lastFrameNanos = 0;
+    }
+
+    /**
+     * Starts the periodic frame signal at the current frame rate.
+     */
+    private void startFrames() {
+        long period = TimeUnit.SECONDS.toNanos(1) / targetFps;
+        frames = ticker.scheduleAtFixedRate(this::onFrameDue, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Called by the ticker when a frame is due. Posts a frame to the event dispatch thread if there is anything to render.
+     */
+    private void onFrameDue() {
+        if (pending.isEmpty()) {
+            return; // Nothing changed since the last frame
+        }
+        if (!frameInFlight.compareAndSet(false, true)) {
+            droppedFrames.incrementAndGet(); // The previous frame has not finished yet
+            return;
+        }
+        SwingUtilities.invokeLater(this::runFrame);
+    }
+
+    /**
+     * Runs all the pending tasks on the event dispatch thread and measures the frame.
+     * Tasks that are requested while the frame runs are left for the next frame.
+     */
+    private void runFrame() {
+        long start = System.nanoTime();
+        try {
+            // Copy the tasks first, iterating the set itself could also run the tasks requested during this frame
+            Runnable[] frameTasks = pending.toArray(new Runnable[0]);
+            for (Runnable task : frameTasks) {
+                if (pending.remove(task)) {
+                    task.run();
+                }
+            }
+            Toolkit.getDefaultToolkit().sync(); // Flush the painted frame to the screen
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            lastFrameNanos = elapsed;
+            totalFrameNanos.addAndGet(elapsed);
+            renderedFrames.incrementAndGet();
+            frameInFlight.set(false);
+        }
+    }
+
+    /**
+     * Reads the initial frame rate from the {@code render.fps} system property.
+     * Falls back to DEFAULT_FPS if the property is missing or invalid.
+     *
+     * @return The initial frame rate.
+     */
+    private static int fpsFromProperty() {
+        String value = System.getProperty("render.fps", String.valueOf(DEFAULT_FPS));
+        try {
+            int fps = Integer.parseInt(value.trim());
+            if (fps >= 1 && fps <= MAX_FPS) {
+                return fps;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below like any other invalid value
+        }
+        System.err.println("Invalid frame rate " + value + ", using " + DEFAULT_FPS);
+        return DEFAULT_FPS;
+    }
+}
@@ -0,0 +1,169 @@
+package Graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The SpriteAtlas class keeps every sprite that is drawn, already scaled to the size it is drawn in,
+ * inside one large image in the format of the screen.
+ * A sprite is scaled once, the first time it is drawn in a given size, and every later draw copies its
+ * region of the atlas to the screen without scaling, which is much cheaper than scaling the source image on every paint.
+ *
+ * The regions are packed in rows (shelves) from the top left corner. When the atlas is full it is replaced by
+ * an atlas twice as high that starts with a copy of the old one, so the regions that were already packed keep their place.
+ */
+public final class SpriteAtlas {
+    private static final int WIDTH = 1024; // The width of the atlas
+    private static final int INITIAL_HEIGHT = 512; // The height of the atlas before it grows
+
+    private static volatile BufferedImage atlas; // The image that holds all the scaled sprites
+    private static final Map<Key, Rectangle> regions = new HashMap<>(); // The region of every scaled sprite
+    private static int shelfX = 0; // The X coordinate where the next region of the current shelf starts
+    private static int shelfY = 0; // The Y coordinate of the current shelf
+    private static int shelfHeight = 0; // The height of the highest region of the current shelf
+
+    /**
+     * The key of a scaled sprite. Images are compared by identity, since BufferedImage does not override equals.
+     */
+    private static final class Key {
+        private final BufferedImage image; // The source image
+        private final int width; // The width the image is scaled to
+        private final int height; // The height the image is scaled to
+
+        Key(BufferedImage image, int width, int height) {
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return image == key.image && width == key.width && height == key.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(image) * 31 + width) * 31 + height;
+        }
+    }
+
+    /**
+     * Private constructor, the atlas only has static methods.
+     */
+    private SpriteAtlas() {
+    }
+
+    /**
+     * Draws an image scaled to the specified size, like {@code g.drawImage(image, x, y, width, height, observer)},
+     * but copies the already scaled sprite from the atlas instead of scaling the image again.
+     *
+     * @param g The Graphics context to draw on.
+     * @param image The source image. Nothing is drawn if it is null.
+     * @param x The X coordinate of the top left corner.
+     * @param y The Y coordinate of the top left corner.
+     * @param width The width to draw the image in.
+     * @param height The height to draw the image in.
+     */
+    public static void draw(Graphics g, BufferedImage image, int x, int y, int width, int height) {
+        if (image == null || width <= 0 || height <= 0) {
+            return;
+        }
+        Rectangle region = regionOf(image, width, height);
+        BufferedImage source = atlas;
+        g.drawImage(source, x, y, x + width, y + height,
+                region.x, region.y, region.x + width, region.y + height, null);
+    }
+
+    /**
+     * Finds the region of a scaled sprite, scaling the image into the atlas on the first request.
+     *
+     * @param image The source image.
+     * @param width The scaled width.
+     * @param height The scaled height.
+     * @return The region of the scaled sprite in the atlas.
+     */
+    private static synchronized Rectangle regionOf(BufferedImage image, int width, int height) {
+        Key key = new Key(image, width, height);
+        Rectangle region = regions.get(key);
+        if (region == null) {
+            region = pack(width, height);
+            Graphics2D g = atlas.createGraphics();
+            g.setComposite(AlphaComposite.Src); // The region is empty, copy the pixels including their transparency
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, region.x, region.y, width, height, null);
+            g.dispose();
+            regions.put(key, region);
+        }
+        return region;
+    }
+
+    /**
+     * Reserves an empty region of the atlas, creating or growing the atlas if needed.
+     *
+     * @param width The width of the region.
+     * @param height The height of the region.
+     * @return The reserved region.
+     */
+    private static Rectangle pack(int width, int height) {
+        if (atlas == null) {
+            atlas = createImage(WIDTH, Math.max(INITIAL_HEIGHT, height));
+        }
+        if (shelfX + width > WIDTH) {
+            // Start a new shelf under the current one
+            shelfY += shelfHeight;
+            shelfX = 0;
+            shelfHeight = 0;
+        }
+        while (shelfY + height > atlas.getHeight()) {
+            grow();
+        }
+        Rectangle region = new Rectangle(shelfX, shelfY, width, height);
+        shelfX += width;
+        shelfHeight = Math.max(shelfHeight, height);
+        return region;
+    }
+
+    /**
+     * Replaces the atlas with an atlas twice as high that starts with a copy of the old one.
+     */
+    private static void grow() {
+        BufferedImage bigger = createImage(WIDTH, atlas.getHeight() * 2);
+        Graphics2D g = bigger.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(atlas, 0, 0, null);
+        g.dispose();
+        atlas = bigger;
+    }
+
+    /**
+     * Creates a transparent image in the format of the screen, so drawing it does not need a conversion.
+     * Without a screen a premultiplied ARGB image is used, which is the format Java2D blends fastest.
+     *
+     * @param width The width of the image.
+     * @param height The height of the image.
+     * @return The new image.
+     */
+    private static BufferedImage createImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * Retrieves the number of scaled sprites in the atlas.
+     *
+     * @return The number of regions.
+     */
+    public static synchronized int size() {
+        return regions.size();
+    }
+}
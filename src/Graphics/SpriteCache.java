@@ -0,0 +1,81 @@
+package Graphics;
+
+import Animals.Animal;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SpriteCache class holds the images of the animals for the whole program.
+ * Every image is decoded once, the first time it is requested, and the same BufferedImage is shared by all the
+ * animals of the same species, so creating, copying or cloning an animal never reads an image file.
+ *
+ * The images are loaded from the classpath, from the Graphics/Images folder next to this class,
+ * and are named after the species and the orientation, for example "cat_EAST.png".
+ * Images that cannot be loaded are remembered as missing, so the error is only reported once.
+ */
+public final class SpriteCache {
+    private static final String IMAGES_PATH = "/Graphics/Images/"; // The classpath folder of the images
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB); // Marks an image that could not be loaded
+    private static final ConcurrentHashMap<String, BufferedImage> sprites = new ConcurrentHashMap<>(); // The decoded images by file name
+
+    /**
+     * Private constructor, the cache only has static methods.
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * Retrieves the image of a species in the specified orientation, decoding it on the first request.
+     *
+     * @param species The species of the animal in lower case, for example "cat".
+     * @param orientation The orientation of the image.
+     * @return The shared image, or null if the image cannot be loaded.
+     */
+    public static BufferedImage getSprite(String species, Animal.Orientation orientation) {
+        return getImage(species + "_" + orientation.name() + ".png");
+    }
+
+    /**
+     * Retrieves an image of the Graphics/Images folder, decoding it on the first request.
+     *
+     * @param fileName The name of the image file.
+     * @return The shared image, or null if the image cannot be loaded.
+     */
+    public static BufferedImage getImage(String fileName) {
+        BufferedImage sprite = sprites.computeIfAbsent(fileName, SpriteCache::load);
+        return sprite == MISSING ? null : sprite;
+    }
+
+    /**
+     * Decodes an image from the classpath.
+     *
+     * @param fileName The name of the image file.
+     * @return The decoded image, or MISSING if it cannot be loaded.
+     */
+    private static BufferedImage load(String fileName) {
+        try (InputStream in = SpriteCache.class.getResourceAsStream(IMAGES_PATH + fileName)) {
+            if (in != null) {
+                BufferedImage image = ImageIO.read(in);
+                if (image != null) {
+                    return image;
+                }
+            }
+        } catch (IOException e) {
+            // Reported below like any other missing image
+        }
+        System.out.println("Cannot load image " + IMAGES_PATH + fileName);
+        return MISSING;
+    }
+
+    /**
+     * Retrieves the number of images that were requested so far, including the missing ones.
+     *
+     * @return The number of cached images.
+     */
+    public static int size() {
+        return sprites.size();
+    }
+}
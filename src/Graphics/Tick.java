@@ -1,47 +1,80 @@
 package Graphics;
 
 import Animals.Animal;
+import Competitions.IRaceClock;
+import Competitions.RaceEngine;
+import Competitions.RaceLifecycle;
+import Competitions.RaceSnapshot;
+import Competitions.RaceSpeed;
 import Competitions.Referee;
-import Mobility.Point;
+import Competitions.RefereeService;
+import Competitions.ScoreStore;
+import Competitions.SimulatedRaceClock;
 
 import javax.swing.*;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import static Graphics.CompetitionFrame.competitionPanel;
 
 /**
- * The Tick class is responsible for managing the race logic in the competition application.
- * It handles the starting, stopping, and updating of the race progress for animals in different groups,
- * including both regular and courier race types. The class also manages threads related to animals, referees,
- * and tournaments to ensure they are running correctly and updates the GUI accordingly.
+ * The Tick class connects the race logic in the competition application to the GUI.
+ * It handles the starting and stopping of the race, drives a {@link RaceEngine} with a Swing timer
+ * and renders the race progress of the animals in the different groups. The class also manages threads related
+ * to animals, referees, and tournaments to ensure they are running correctly and updates the GUI accordingly.
+ *
+ * The timer fires at the simulation rate, which can be lower than the native rate of the engine to save work on
+ * large rosters. Every firing advances the engine by the time of one firing in fixed ticks, so the race runs at the
+ * same pace and gives the same results at any rate, and the renderers interpolate the animals between the snapshots.
+ * The initial simulation rate is read from the {@code race.simulationHz} system property.
+ *
+ * The simulated time of a firing is multiplied by the current {@link RaceSpeed}, so a fast-forwarded race performs
+ * more ticks per firing and the renderers skip the frames in between. At unbounded speed every firing steps the engine
+ * until the next firing is due. The timer only hands the firing to a dedicated stepping thread, which steps the engine
+ * and posts the published snapshot back to the event dispatch thread, so painting never waits for the simulation.
+ * A firing that comes while the previous one is still being stepped is skipped.
+ *
+ * The engine is the only component that moves the animals, and its finish events finish
+ * both the referees and the participants of the race. When rendering is turned off the table and the panel
+ * are only updated when the race stops, from the snapshot published by the last firing. The engine performs the same ticks in every case,
+ * and the finish times are measured in race time, so the results do not depend on the speed.
+ * A race on a {@link SimulatedRaceClock} is always run at unbounded speed, and its clock follows the engine.
  */
 public class Tick implements Runnable {
-    private static List<List<Animal>> animalGroups;
+    private final RaceEngine raceEngine; // The prepared engine of the race to start, null if the race stops
     private static boolean raceFinished = false;
     private static List<Referee> referees;
     private static boolean isRaceStarted = false;
+    public static final int MAX_SIMULATION_HZ = 1000 / RaceEngine.TICK_MILLIS; // The native rate of the engine
+    private static volatile RaceEngine engine; // The engine that advances the race, read by the renderers
+    private static volatile int simulationHz = simulationHzFromProperty(); // The number of timer firings per second
+    private static long pendingMillis = 0; // Simulated time of the firings that was not stepped yet, used by the stepping thread
+    private static volatile Thread stepperThread; // The thread that steps the engines, they are handed over to it
+    private static final ThreadPoolExecutor STEPPER = newStepper(); // Steps the engine, so the event dispatch thread is free to paint
+    private static final AtomicBoolean stepping = new AtomicBoolean(false); // Marks that a firing is being stepped
+    private static volatile boolean renderingEnabled = true; // Marks that the race is drawn while it runs
 
     /**
-     * Constructs a Tick instance with the specified animal groups and referees.
-     * Initializes the animal groups and referees that will be monitored during the race.
+     * Constructs a Tick instance with the prepared engine of the race and the referees.
      *
-     * @param animalGroupsTable The list of animal groups participating in the race.
+     * @param raceEngine The engine returned by {@link #prepareRace(RaceLifecycle)}, or null if the race stops.
      * @param referees The list of referees overseeing the race.
      */
-    Tick(List<List<Animal>> animalGroupsTable, List<Referee> referees) {
-        animalGroups = animalGroupsTable;
+    Tick(RaceEngine raceEngine, List<Referee> referees) {
+        this.raceEngine = raceEngine;
         this.referees = referees;
     }
 
     /**
-     * The main run method for the Tick thread. It starts or stops the race based on the current state
-     * of the race timer and the play button. If the race is ongoing, it continuously updates the race progress.
+     * The main run method for the Tick thread. It starts the race if it was given a prepared engine,
+     * and stops the race otherwise.
      */
     @Override
     public void run() {
-        if (CompetitionFrame.getRaceTimer() == null || !CompetitionFrame.getRaceTimer().isRunning()
-                || (CompetitionFrame.getPlayButtonText().equals("Start Race") && !raceFinished)) {
-
-            startRace();
+        if (raceEngine != null) {
+            startRace(raceEngine);
             isRaceStarted = true;
 
         } else { // The race stopped
@@ -50,163 +83,159 @@ public class Tick implements Runnable {
     }
 
     /**
-     * Starts the race by resetting the distances of all animals to 0, resetting their state,
-     * and starting the race timer. The method also initializes the race logic for both regular and courier races.
+     * Checks if toggling the race starts it, based on the current state of the race timer and the play button.
+     *
+     * @return true if the race starts, false if it stops.
      */
-    private void startRace() {
-        // Reset the distances of all animals to 0 and update info table
-         for (int i = 0; i < AnimalTableModel.getAnimalGroups().size(); i++) {
-            for (int j = 0; j < AnimalTableModel.getAnimalGroups().get(i).size(); j++) {
-                AnimalTableModel.getAnimalGroups().get(i).get(j).setTotalDistance(0.0);
-                CompetitionFrame.updateAnimalInfo(AnimalTableModel.getAnimalGroups().get(i).get(j));
-            }
-        }
+    static boolean isStarting() {
+        return CompetitionFrame.getRaceTimer() == null || !CompetitionFrame.getRaceTimer().isRunning()
+                || (CompetitionFrame.getPlayButtonText().equals("Start Race") && !raceFinished);
+    }
 
-        // Reset the state of all animals and the race finished flag
+    /**
+     * Creates the engine of a race and resets all the animals to the beginning of the race.
+     * The engine moves the animals into its race state, which the panel also reads and writes while it paints,
+     * so this method must be called on the event dispatch thread before any thread of the race is started.
+     *
+     * @param race The race the engine belongs to. The finish events of the engine finish its participants.
+     * @return The prepared RaceEngine.
+     */
+    static RaceEngine prepareRace(RaceLifecycle race) {
+        List<List<Animal>> animalGroups = AnimalTableModel.getAnimalGroups();
+        RaceEngine raceEngine = new RaceEngine(animalGroups, AnimalTableModel.getCompetitionTypes(), AnimalTableModel.getGroupsTypes());
+        raceEngine.setFinishListener(event -> {
+            RefereeService.getInstance().onFinish(event);
+            race.onFinish(event); // The engine finishes the participants of the race
+        });
+        raceEngine.setParallel(animalGroups.size() >= RaceEngine.PARALLEL_MIN_GROUPS); // Spread many groups over the cores
+        raceEngine.reset(); // Reset the state of all animals
+        raceEngine.handOver(stepperThread); // From now on only the stepping thread writes the animals
+        return raceEngine;
+    }
+
+    /**
+     * Starts the race with a prepared engine and starts the race timer. The race itself is advanced by the
+     * {@link RaceEngine}, this class only renders the state of the engine after every firing of the timer.
+     *
+     * @param preparedEngine The engine returned by {@link #prepareRace(RaceLifecycle)}.
+     */
+    private static void startRace(RaceEngine preparedEngine) {
+        engine = preparedEngine;
+        RaceLifecycle race = RaceLifecycle.getCurrent(); // The race that was just begun
         raceFinished = false;
+        ScoreStore.getInstance().startRace(); // Finish times are measured from now
+
+        // Update the info table with the reset distances
+        CompetitionFrame.getInfoTableModel().updateFromSnapshot(engine.getSnapshot());
+
+        int period = 1000 / simulationHz;
+        pendingMillis = 0;
+        stepping.set(false);
+        RaceEngine raceEngine = engine;
+        IRaceClock clock = race.getClock();
+        CompetitionFrame.setRaceTimer(new Timer(period, event -> {
+            // The engine is stepped off the event dispatch thread, which only receives the snapshot of the firing
+            if (stepping.compareAndSet(false, true)) {
+                STEPPER.execute(() -> stepFiring(raceEngine, race, clock, period));
+            } // Otherwise the previous firing is still being stepped, and this one is skipped
+        }));
 
-        for (int i = 0; i < AnimalTableModel.getAnimalGroups().size(); i++) {
-            for (Animal animal : AnimalTableModel.getAnimalGroups().get(i)) {
-                animal.reset();
-            }
-        }
+        CompetitionFrame.getRaceTimer().start();
+        CompetitionFrame.setPlayButton("Stop Race");
+    }
 
-        CompetitionFrame.setRaceTimer(new Timer(100, event -> {
+    /**
+     * Advances the engine by the simulated time of one timer firing at the current speed, in its fixed ticks,
+     * and hands the snapshot of the firing to the event dispatch thread. Runs on the stepping thread.
+     *
+     * @param engine The engine of the race.
+     * @param race The lifecycle of the race.
+     * @param clock The clock of the race.
+     * @param period The time between two firings, in milliseconds.
+     */
+    private static void stepFiring(RaceEngine engine, RaceLifecycle race, IRaceClock clock, int period) {
+        try {
+            RaceSpeed speed = clock.isSimulated() ? RaceSpeed.UNBOUNDED : RaceSpeed.getCurrent();
+            if (speed.isUnbounded()) {
+                pendingMillis = Long.MAX_VALUE; // Step until the time of the firing is used up
+            } else {
+                long firingMillis = speed.toSimulatedMillis(period);
+                pendingMillis = Math.min(pendingMillis, firingMillis) + firingMillis; // Carry over at most one firing
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(period); // The next firing is due
+            int ticks = 0;
             boolean needsRepaint = false;
-
-            for (int groupIndex = 0; groupIndex < animalGroups.size(); groupIndex++) {
-                List<Animal> group = animalGroups.get(groupIndex);
-
-                // Regular race logic
-                 if (AnimalTableModel.getGroupCompetitionType(groupIndex).equals("regular")) {
-                    for (int animalIndex = 0; animalIndex < group.size(); animalIndex++) {
-                        if (group.get(animalIndex).getEnergy() > 0) {
-                            Mobility.Point nextLocation = new Mobility.Point(
-                                    (int) (group.get(animalIndex).getLocation().getX() + group.get(animalIndex).getSpeed()),
-                                    group.get(animalIndex).getLocation().getY()
-                            );
-                            // Move the animal and set the repaint flag if it successfully moves
-                            if (group.get(animalIndex).move(nextLocation)) {
-                                needsRepaint = true;
-                            }
-                        }
-
-                        CompetitionFrame.updateAnimalInfo(group.get(animalIndex));
-                    }
-                }
-
-                // Courier race logic
-                else if (AnimalTableModel.getGroupCompetitionType(groupIndex).equals("courier")) {
-                    boolean previousAnimalFinished = true;
-
-                    if (AnimalTableModel.getGroupType(groupIndex).equals("Terrestrial")) {
-                        // Start from the first animal and move forwards
-                        for (int animalIndex = 0; animalIndex < group.size(); animalIndex++) {
-                            Animal animal = group.get(animalIndex);
-
-                            if(animalIndex==3 && animal.getLocation().equals(new Point(0,4))) {
-                                animal.stopMoving();
-                            }
-                            // Check if previous animal has finished before moving the current one
-                            if (previousAnimalFinished && animal.getEnergy() > 0) {
-                                Mobility.Point nextLocation = new Mobility.Point(
-                                        (int) (animal.getLocation().getX() + animal.getSpeed()),
-                                        animal.getLocation().getY()
-                                );
-
-                                if(animal.canMove()){
-                                    if (animal.move(nextLocation)) {
-                                        needsRepaint = true;
-                                    }
-
-                                    // If the current animal has reached the needed distance, it signals it's done
-                                    if (Math.abs(animal.getTotalDistance() - calculateNeededDistance(groupIndex,
-                                            AnimalTableModel.getGroupType(groupIndex),
-                                            AnimalTableModel.getAnimalGroups().get(groupIndex).indexOf(animal))) < 50) {
-                                        previousAnimalFinished = true;
-                                        animal.stopMoving();
-                                    } else {
-                                        previousAnimalFinished = false;  // This animal is still running
-                                    }
-
-                                }
-                                CompetitionFrame.updateAnimalInfo(animal);
-                            }
-                        }
-                    } else {
-                        // Start from the last animal and move backwards
-                        for (int animalIndex = group.size() - 1; animalIndex >= 0; animalIndex--) {
-                            Animal animal = group.get(animalIndex);
-
-                            // Check if previous animal has finished before moving the current one
-                            if (previousAnimalFinished && animal.getEnergy() > 0) {
-                                Mobility.Point nextLocation = new Mobility.Point(
-                                        (int) (animal.getLocation().getX() + animal.getSpeed()),
-                                        animal.getLocation().getY()
-                                );
-
-                                if (animal.move(nextLocation)) {
-                                    needsRepaint = true;
-                                }
-
-                                // If the current animal has reached the needed distance, it signals it's done
-                                if (animal.getTotalDistance() >= calculateNeededDistance(groupIndex, AnimalTableModel.getGroupType(groupIndex),
-                                        AnimalTableModel.getAnimalGroups().get(groupIndex).indexOf(animal))) {
-                                    previousAnimalFinished = true;
-                                    animal.stopMoving();
-
-                                } else {
-                                    previousAnimalFinished = false;  // This animal is still running
-                                }
-
-                                CompetitionFrame.updateAnimalInfo(animal);
-                            }
-                        }
-                    }
-                }
+            while (pendingMillis >= RaceEngine.TICK_MILLIS && !engine.isFinished() && System.nanoTime() < deadline) {
+                needsRepaint |= engine.step(); // Set the repaint flag if at least one animal moved
+                pendingMillis -= RaceEngine.TICK_MILLIS;
+                ticks++;
             }
-
-            if (needsRepaint) {
-                competitionPanel.repaint(); // Repaint only if needed
+            if (speed.isUnbounded()) {
+                pendingMillis = 0;
             }
-
-
-            boolean raceCompleted = true;
-            for (int i = 0; i < AnimalTableModel.getAnimalGroups().size(); i++) {
-                for (Animal animal : AnimalTableModel.getAnimalGroups().get(i)) {
-                    if (animal.canMove()) {
-                        raceCompleted = false;
-                        break;
-                    }
-                }
+            boolean finished = engine.isFinished();
+            if (ticks == 0 && !finished) {
+                return; // Not a whole tick yet
             }
-
-            if(areAnimalThreadsRunning() || areRefereeThreadsRunning() || areTournamentThreadsRunning()){
-             raceCompleted = false;
+            ScoreStore.getInstance().setRaceTime(TimeUnit.MILLISECONDS.toNanos(engine.getElapsedMillis()));
+            if (clock instanceof SimulatedRaceClock) {
+                ((SimulatedRaceClock) clock).advanceTo(engine.getElapsedMillis()); // The engine drives the simulated time
             }
 
-            if (raceCompleted) {
-                stopRace(); // Stop the race and display the message
-                SwingUtilities.invokeLater(() -> {
-                    JOptionPane.showMessageDialog(null, "The race is finished!\n To see the finish times, please click on 'Add Competition'.");
-                });
+            // The snapshot is published even without rendering, so the table can show where the race stopped
+            RaceSnapshot snapshot = engine.publishSnapshot();
+            boolean repaint = needsRepaint;
+            SwingUtilities.invokeLater(() -> showFiring(engine, race, snapshot, repaint, finished));
+        } catch (RuntimeException e) {
+            e.printStackTrace(); // Keep the stepping thread alive, the engines are handed over to it
+        } finally {
+            stepping.set(false);
+        }
+    }
+
+    /**
+     * Shows the snapshot of a firing and stops the race once it is completed. Runs on the event dispatch thread.
+     * The table and the panel only read the snapshot of the firing, the ticks in between are not drawn.
+     *
+     * @param firingEngine The engine that was stepped.
+     * @param race The lifecycle of the race.
+     * @param snapshot The snapshot published by the firing.
+     * @param needsRepaint true if at least one animal moved during the firing.
+     * @param finished true if no animal can move anymore.
+     */
+    private static void showFiring(RaceEngine firingEngine, RaceLifecycle race, RaceSnapshot snapshot, boolean needsRepaint, boolean finished) {
+        if (firingEngine != engine || CompetitionFrame.getRaceTimer() == null) {
+            return; // The race was stopped or replaced since the firing
+        }
+        if (renderingEnabled) {
+            CompetitionFrame.getInfoTableModel().updateFromSnapshot(snapshot);
+
+            if (needsRepaint) {
+                competitionPanel.animalsMoved(); // Animate the animals from the previous snapshot to this one
             }
-        }));
+        }
 
-        CompetitionFrame.getRaceTimer().start();
-        CompetitionFrame.setPlayButton("Stop Race");
-        CompetitionFrame.setRaceStarted(true);
+        // Participants, referees or tournaments of the race may not have finished yet
+        if (finished && !race.isRunning()) {
+            stopRace(); // Stop the race and display the message
+            SwingUtilities.invokeLater(() -> {
+                JOptionPane.showMessageDialog(null, "The race is finished!\n To see the finish times, please click on 'Add Competition'.");
+            });
+        }
     }
 
     /**
      * Stops the race by stopping the race timer and updating the GUI.
      * Resets the play button to "Start Race" and marks the race as not started.
      */
-    private void stopRace() {
+    private static void stopRace() {
         if (CompetitionFrame.getRaceTimer() != null) {
             CompetitionFrame.getRaceTimer().stop();
             CompetitionFrame.setRaceTimer(null); // Clear the timer reference
         }
+        if (engine != null && !renderingEnabled) {
+            CompetitionFrame.getInfoTableModel().updateFromSnapshot(engine.getSnapshot()); // Show where the race stopped
+        }
         CompetitionFrame.setPlayButton("Start Race");
         CompetitionFrame.setRaceStarted(false);
 
@@ -223,118 +252,111 @@ public class Tick implements Runnable {
      * @return The needed distance that the animal must travel to complete the race.
      */
     public static double calculateNeededDistance(int index, String groupType, int animalIndex) {
-        switch (groupType) {
-            case "Air": {
-                return 600.0 / AnimalTableModel.getAnimalGroups().get(index).size();
-            }
-            case "Water": {
-                return (560.0 / AnimalTableModel.getAnimalGroups().get(index).size());
-            }
-            case "Terrestrial": {
-                if (animalIndex == 0) {
-                    return 610;
-                } else if (animalIndex == 1) {
-                    return 420;
-                } else if (animalIndex == 2) {
-                    return 630;
-                } else {
-                    return 2250.0 / 4;
-                }
-            }
-            default: {
-                return 1000;
-            }
-        }
+        return RaceEngine.calculateNeededDistance(AnimalTableModel.getAnimalGroups().get(index), groupType, animalIndex);
+    }
+
+    public static boolean isRaceFinished() {
+        return raceFinished;
+    }
+
+    public static boolean isRaceStarted(){
+        return isRaceStarted;
     }
 
     /**
-     * Checks if there are any AnimalThread threads currently running.
-     * Iterates through the active threads in the system to find any threads related to animals.
+     * Retrieves the number of times per second the race timer advances the engine.
      *
-     * @return True if any AnimalThread threads are running, false otherwise.
+     * @return The simulation rate in Hz.
      */
-    private boolean areAnimalThreadsRunning() {
-        // Get the current thread group
-        ThreadGroup currentGroup = Thread.currentThread().getThreadGroup();
-        // Get the parent group (root group)
-        while (currentGroup.getParent() != null) {
-            currentGroup = currentGroup.getParent();
-        }
-
-        // Estimate the number of active threads in the system
-        int activeThreads = currentGroup.activeCount();
-        // Get all active threads
-        Thread[] threads = new Thread[activeThreads];
-        currentGroup.enumerate(threads, true);
-
-        // Check if there are any AnimalThread threads running
-        for (Thread thread : threads) {
-            if (thread != null && thread.isAlive()) {
-                if (thread.getName().contains("AnimalThread") || thread.getClass().getName().equals("Graphics.AnimalThread")) {
-                    return true; // Found an AnimalThread thread that is running
-                }
-            }
-        }
-        return false; // No AnimalThread threads found running
+    public static int getSimulationHz() {
+        return simulationHz;
     }
 
     /**
-     * Checks if there are any Referee threads currently running.
-     * Iterates through the list of referees to determine if any referee threads are still active.
+     * Sets the number of times per second the race timer advances the engine. The new rate is used from the next race.
+     * A lower rate saves work on large rosters without slowing the race down, since every firing performs more ticks.
      *
-     * @return True if any Referee threads are running, false otherwise.
+     * @param hz The simulation rate, between 1 and MAX_SIMULATION_HZ.
+     * @return true if the rate was set successfully, false otherwise.
      */
-    private boolean areRefereeThreadsRunning() {
-        boolean refereesRunning = false;
-
-        for (Referee referee : referees) {
-            Thread refereeThread = referee.getThread();
-            if (refereeThread != null && refereeThread.isAlive()) {
-                refereesRunning = true; // Found a Referee thread that is running
-            }
+    public static boolean setSimulationHz(int hz) {
+        if (hz < 1 || hz > MAX_SIMULATION_HZ) {
+            System.out.println("Error: Simulation rate must be between 1 and " + MAX_SIMULATION_HZ);
+            return false;
         }
+        simulationHz = hz;
+        return true;
+    }
 
-        return refereesRunning;
+    public static boolean isRenderingEnabled() {
+        return renderingEnabled;
     }
 
     /**
-     * Checks if there are any TournamentThread threads currently running.
-     * Scans all active threads in the system to find any threads related to tournaments.
-     * This method checks for threads named "TournamentThread" or belonging to the "Competitions.TournamentThread" class.
+     * Turns the drawing of the race on or off. Without rendering the race only uses the CPU for the simulation,
+     * which together with {@link RaceSpeed#UNBOUNDED} gives the results of a race as fast as possible.
+     * The change takes effect with the next firing of the race timer.
      *
-     * @return True if any TournamentThread threads are running, false otherwise.
+     * @param enabled true to draw the race while it runs, false to only show the state of the race when it stops.
      */
-    private boolean areTournamentThreadsRunning() {
-        // Get the current thread group
-        ThreadGroup currentGroup = Thread.currentThread().getThreadGroup();
-        // Get the parent group (root group)
-        while (currentGroup.getParent() != null) {
-            currentGroup = currentGroup.getParent();
-        }
+    public static void setRenderingEnabled(boolean enabled) {
+        renderingEnabled = enabled;
+    }
 
-        // Estimate the number of active threads in the system
-        int activeThreads = currentGroup.activeCount();
-        // Get all active threads
-        Thread[] threads = new Thread[activeThreads];
-        currentGroup.enumerate(threads, true);
+    /**
+     * Creates the executor that steps the engines. Its single thread is started at once and never replaced,
+     * so the engines can be handed over to it before the first firing.
+     *
+     * @return The stepping executor.
+     */
+    private static ThreadPoolExecutor newStepper() {
+        ThreadPoolExecutor stepper = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "RaceEngine");
+            thread.setDaemon(true); // The stepping thread should not keep the application alive
+            stepperThread = thread;
+            return thread;
+        });
+        stepper.prestartCoreThread();
+        return stepper;
+    }
 
-        // Check if there are any TournamentThread threads running
-        for (Thread thread : threads) {
-            if (thread != null && thread.isAlive()) {
-                if (thread.getName().contains("TournamentThread") || thread.getClass().getName().equals("Competitions.TournamentThread")) {
-                    return true; // Found a TournamentThread thread that is running
-                }
+    /**
+     * Reads the initial simulation rate from the {@code race.simulationHz} system property.
+     * Falls back to MAX_SIMULATION_HZ, one firing per tick of the engine, if the property is missing or invalid.
+     *
+     * @return The initial simulation rate.
+     */
+    private static int simulationHzFromProperty() {
+        String value = System.getProperty("race.simulationHz", String.valueOf(MAX_SIMULATION_HZ));
+        try {
+            int hz = Integer.parseInt(value.trim());
+            if (hz >= 1 && hz <= MAX_SIMULATION_HZ) {
+                return hz;
             }
+        } catch (NumberFormatException e) {
+            // Reported below like any other invalid value
         }
-        return false; // No TournamentThread threads found running
+        System.err.println("Invalid simulation rate " + value + ", using " + MAX_SIMULATION_HZ);
+        return MAX_SIMULATION_HZ;
     }
 
-    public static boolean isRaceFinished() {
-        return raceFinished;
+    /**
+     * Retrieves the last snapshot of the animals published for the renderers.
+     *
+     * @return The latest RaceSnapshot, or null if no race was started yet.
+     */
+    public static RaceSnapshot getSnapshot() {
+        RaceEngine current = engine;
+        return current == null ? null : current.getSnapshot();
     }
 
-    public static boolean isRaceStarted(){
-        return isRaceStarted;
+    /**
+     * Retrieves the engine that advances the current race.
+     *
+     * @return The RaceEngine of the current race, or null if no race was started yet.
+     */
+    public static RaceEngine getEngine() {
+        return engine;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package Graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The TrackBackground class is the background layer of the competition panel.
+ * The background image is scaled once to the size of the panel into an offscreen image in the format of the screen,
+ * and every paint copies that layer without scaling. The layer is only scaled again when the size of the panel changes.
+ */
+public class TrackBackground {
+    private final BufferedImage source; // The background image in its original size, or null if it cannot be loaded
+    private BufferedImage layer; // The background scaled to the current size of the panel
+
+    /**
+     * Constructs a TrackBackground for an image of the Graphics/Images folder.
+     * The image is taken from the {@link SpriteCache}, so it is only decoded once.
+     *
+     * @param fileName The name of the background image file.
+     */
+    public TrackBackground(String fileName) {
+        this.source = SpriteCache.getImage(fileName);
+    }
+
+    /**
+     * Retrieves the width of the original background image.
+     *
+     * @return The width in pixels, or 0 if the image cannot be loaded.
+     */
+    public int getWidth() {
+        return source == null ? 0 : source.getWidth();
+    }
+
+    /**
+     * Retrieves the height of the original background image.
+     *
+     * @return The height in pixels, or 0 if the image cannot be loaded.
+     */
+    public int getHeight() {
+        return source == null ? 0 : source.getHeight();
+    }
+
+    /**
+     * Paints the background over the whole component, scaling the layer again only if the size of the component changed.
+     * Only the part inside the clip of the Graphics context is copied.
+     *
+     * @param g The Graphics context to paint on.
+     * @param component The component whose size the background fills.
+     */
+    public void paint(Graphics g, Component component) {
+        int width = component.getWidth();
+        int height = component.getHeight();
+        if (source == null || width <= 0 || height <= 0) {
+            return;
+        }
+        if (layer == null || layer.getWidth() != width || layer.getHeight() != height) {
+            layer = render(component, width, height);
+        }
+        g.drawImage(layer, 0, 0, null);
+    }
+
+    /**
+     * Scales the background image into a new layer.
+     *
+     * @param component The component the layer is painted on, used to find the format of its screen.
+     * @param width The width of the layer.
+     * @param height The height of the layer.
+     * @return The new layer.
+     */
+    private BufferedImage render(Component component, int width, int height) {
+        GraphicsConfiguration config = component.getGraphicsConfiguration();
+        BufferedImage scaled = config != null
+                ? config.createCompatibleImage(width, height, Transparency.OPAQUE)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+}
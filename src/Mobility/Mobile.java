@@ -4,26 +4,29 @@ package Mobility;
  * Abstract class representing a mobile entity in space.
  * This class provides a basic implementation for movement in a 2D space
  * and implements the ILocatable interface.
+ *
+ * The location and the traveled distance are not stored in the object itself but in one slot of a {@link RaceState},
+ * so a race can keep the state of all its participants in parallel arrays.
  */
 public abstract class Mobile implements ILocatable {
 
     /**
-     * The current location of the mobile entity.
+     * The store that holds the state of the mobile entity.
      */
-    private Point location;
+    protected RaceState state;
 
     /**
-     * The distance the entity has traveled.
+     * The slot of the mobile entity in the store.
      */
-    private double totalDistance;
+    protected int slot;
 
     /**
      * Constructs a mobile entity with default values.
      * The default location is (0, 0) and the default total distance traveled is 0.0.
      */
     public Mobile() {
-        this.location = new Point(0, 0);
-        this.totalDistance = 0.0;
+        this.state = new RaceState(1);
+        this.slot = state.allocate();
     }
 
     /**
@@ -32,8 +35,9 @@ public abstract class Mobile implements ILocatable {
      * @param inputLocation The initial location of the mobile entity as a Point object.
      */
     public Mobile(Point inputLocation) {
-        this.location = new Point(inputLocation.getX(), inputLocation.getY());
-        this.totalDistance = 0.0;
+        this();
+        state.setX(slot, inputLocation.getX());
+        state.setY(slot, inputLocation.getY());
     }
 
     /**
@@ -42,18 +46,73 @@ public abstract class Mobile implements ILocatable {
      * @param other The Mobile object to copy.
      */
     public Mobile(Mobile other) {
-        this.location = new Point(other.location.getX(), other.location.getY());
-        this.totalDistance = other.totalDistance;
+        this();
+        state.setX(slot, other.state.getX(other.slot));
+        state.setY(slot, other.state.getY(other.slot));
+        state.setTotalDistance(slot, other.state.getTotalDistance(other.slot));
+    }
+
+    /**
+     * Moves the state of the mobile entity into a new slot of the specified store.
+     * All the values of the current slot are copied, afterwards the entity is a view over the new slot.
+     *
+     * @param target The store to move into.
+     * @return The slot of the entity in the target store.
+     */
+    public int bindTo(RaceState target) {
+        int newSlot = target.allocate();
+        target.copySlot(newSlot, state, slot);
+        this.state = target;
+        this.slot = newSlot;
+        return newSlot;
+    }
+
+    /**
+     * Retrieves the store that holds the state of the mobile entity.
+     *
+     * @return The RaceState of the entity.
+     */
+    public RaceState getRaceState() {
+        return state;
+    }
+
+    /**
+     * Retrieves the slot of the mobile entity in its store.
+     *
+     * @return The slot index.
+     */
+    public int getSlot() {
+        return slot;
     }
 
     /**
      * Returns the current location of the mobile entity.
+     * Every call returns a new Point, so the caller can keep it while the entity moves on.
+     * The movement code reads the coordinates with getX() and getY() instead, without creating a Point.
      *
      * @return The current location of the mobile entity as a Point object.
      */
     @Override
     public Point getLocation() {
-        return location;
+        return new Point(state.getX(slot), state.getY(slot));
+    }
+
+    /**
+     * Returns the current X coordinate of the mobile entity, read directly from its slot.
+     *
+     * @return The X coordinate.
+     */
+    public int getX() {
+        return state.getX(slot);
+    }
+
+    /**
+     * Returns the current Y coordinate of the mobile entity, read directly from its slot.
+     *
+     * @return The Y coordinate.
+     */
+    public int getY() {
+        return state.getY(slot);
     }
 
     /**
@@ -68,21 +127,33 @@ public abstract class Mobile implements ILocatable {
             //System.out.println("The location cannot be null - the location hasn't been updated.");
             return false;
         }
-        if (location.equals(inputLocation)) {
-            return true;
-        }
-        //else
-        this.location = new Point(inputLocation.getX(), inputLocation.getY());
+        state.setX(slot, inputLocation.getX());
+        state.setY(slot, inputLocation.getY());
         //System.out.println("The location has been set to " + this.location + " successfully.");
         return true;
     }
 
+    /**
+     * Sets the location of the mobile entity in place, without creating a Point.
+     *
+     * @param x The new X coordinate (must be non-negative).
+     * @param y The new Y coordinate (must be non-negative).
+     * @throws IllegalArgumentException if any coordinate is negative.
+     */
+    protected void setCoordinates(int x, int y) {
+        if (x < 0 || y < 0) {
+            throw new IllegalArgumentException("Coordinates must be non-negative.");
+        }
+        state.setX(slot, x);
+        state.setY(slot, y);
+    }
+
     /**
      * Returns the distance the entity has traveled.
      * @return The distance the entity has traveled.
      */
     public double getTotalDistance() {
-        return totalDistance;
+        return state.getTotalDistance(slot);
     }
 
      /**
@@ -92,14 +163,14 @@ public abstract class Mobile implements ILocatable {
      * @return true if the total distance was set successfully, false otherwise.
      */
     public boolean setTotalDistance(double newTotalDistance) {
-        if(this.totalDistance == newTotalDistance){
+        if(state.getTotalDistance(slot) == newTotalDistance){
             return false;
         }
         if(newTotalDistance<0){
             return false;
         }
         //else
-        this.totalDistance = newTotalDistance;
+        state.setTotalDistance(slot, newTotalDistance);
         return true;
     }
 
@@ -109,7 +180,7 @@ public abstract class Mobile implements ILocatable {
      * @param addThisDistance The distance to add to the total distance.
      */
     public void addTotalDistance(double addThisDistance) {
-        this.totalDistance += addThisDistance;
+        state.setTotalDistance(slot, state.getTotalDistance(slot) + addThisDistance);
     }
 
      /**
@@ -126,8 +197,8 @@ public abstract class Mobile implements ILocatable {
             return -1.0;
         }
 
-        int x1 = this.location.getX();
-        int y1 = this.location.getY();
+        int x1 = state.getX(slot);
+        int y1 = state.getY(slot);
         int x2 = otherLocation.getX();
         int y2 = otherLocation.getY();
 
@@ -153,7 +224,7 @@ public abstract class Mobile implements ILocatable {
      */
     public boolean move(Point otherLocation) {
         // Check if the new location is null or the same as the current location
-        if (otherLocation == null || (otherLocation.equals(this.location) && this.location != null)) {
+        if (otherLocation == null || (otherLocation.getX() == state.getX(slot) && otherLocation.getY() == state.getY(slot))) {
             return false;
         }
 
@@ -161,7 +232,8 @@ public abstract class Mobile implements ILocatable {
         double newDistance = calcDistance(otherLocation);
 
         // Update the current location to the new location
-        this.location = new Point(otherLocation.getX(), otherLocation.getY());
+        state.setX(slot, otherLocation.getX());
+        state.setY(slot, otherLocation.getY());
 
         // Add the distance traveled to the total distance
         this.addTotalDistance(newDistance);
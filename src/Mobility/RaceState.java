@@ -0,0 +1,202 @@
+package Mobility;
+
+import java.util.Arrays;
+
+/**
+ * The RaceState class stores the fields that the movement of a race needs in parallel primitive arrays.
+ * Every participant owns one slot, and the same index is used in all the arrays, so stepping many participants
+ * is a sequential scan over a few arrays instead of following references through the animal objects.
+ *
+ * A {@link Mobile} is always a view over one slot of a RaceState. A mobile that is created on its own gets a
+ * private store with a single slot, and a race moves its participants into one shared store with {@link Mobile#bindTo(RaceState)}.
+ * Slots should be allocated before the race starts, since growing the store replaces the arrays.
+ */
+public class RaceState {
+    public static final int NOT_STRAIGHT = -1; // Marks a slot that cannot be moved by advanceStraight
+
+    private int size = 0; // The number of allocated slots
+    private int[] x; // The X coordinate of every participant
+    private int[] y; // The Y coordinate of every participant
+    private double[] totalDistance; // The distance every participant has traveled
+    private int[] energy; // The current energy of every participant
+    private int[] energyPerMeter; // The energy every participant consumes per meter
+    private int[] maxEnergy; // The maximum energy of every participant
+    private double[] speed; // The speed of every participant
+    private boolean[] canMove; // Marks the participants that are allowed to move
+    private int[] trackEnd; // The X coordinate where a straight track ends, or NOT_STRAIGHT
+
+    /**
+     * Constructs a RaceState with room for the specified number of participants.
+     *
+     * @param capacity The initial number of slots. The store grows if more slots are allocated.
+     */
+    public RaceState(int capacity) {
+        int initialCapacity = Math.max(1, capacity);
+        x = new int[initialCapacity];
+        y = new int[initialCapacity];
+        totalDistance = new double[initialCapacity];
+        energy = new int[initialCapacity];
+        energyPerMeter = new int[initialCapacity];
+        maxEnergy = new int[initialCapacity];
+        speed = new double[initialCapacity];
+        canMove = new boolean[initialCapacity];
+        trackEnd = new int[initialCapacity];
+    }
+
+    /**
+     * Allocates a new slot. The new participant is at (0, 0), has not traveled, has no energy and no speed,
+     * is allowed to move and is not on a straight track.
+     *
+     * @return The index of the new slot.
+     */
+    public synchronized int allocate() {
+        if (size == x.length) {
+            grow();
+        }
+        int slot = size++;
+        canMove[slot] = true;
+        trackEnd[slot] = NOT_STRAIGHT;
+        return slot;
+    }
+
+    /**
+     * Doubles the capacity of all the arrays.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        totalDistance = Arrays.copyOf(totalDistance, capacity);
+        energy = Arrays.copyOf(energy, capacity);
+        energyPerMeter = Arrays.copyOf(energyPerMeter, capacity);
+        maxEnergy = Arrays.copyOf(maxEnergy, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        canMove = Arrays.copyOf(canMove, capacity);
+        trackEnd = Arrays.copyOf(trackEnd, capacity);
+    }
+
+    /**
+     * Copies all the fields of a slot of another store into a slot of this store.
+     *
+     * @param slot The slot of this store to write.
+     * @param other The store to copy from.
+     * @param otherSlot The slot of the other store to copy.
+     */
+    public void copySlot(int slot, RaceState other, int otherSlot) {
+        x[slot] = other.x[otherSlot];
+        y[slot] = other.y[otherSlot];
+        totalDistance[slot] = other.totalDistance[otherSlot];
+        energy[slot] = other.energy[otherSlot];
+        energyPerMeter[slot] = other.energyPerMeter[otherSlot];
+        maxEnergy[slot] = other.maxEnergy[otherSlot];
+        speed[slot] = other.speed[otherSlot];
+        canMove[slot] = other.canMove[otherSlot];
+        trackEnd[slot] = other.trackEnd[otherSlot];
+    }
+
+    /**
+     * Retrieves the number of allocated slots.
+     *
+     * @return The number of slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    //_______________________________________________________Accessors_________________________________________________
+
+    public int getX(int slot) { return x[slot]; }
+
+    public void setX(int slot, int value) { x[slot] = value; }
+
+    public int getY(int slot) { return y[slot]; }
+
+    public void setY(int slot, int value) { y[slot] = value; }
+
+    public double getTotalDistance(int slot) { return totalDistance[slot]; }
+
+    public void setTotalDistance(int slot, double value) { totalDistance[slot] = value; }
+
+    public int getEnergy(int slot) { return energy[slot]; }
+
+    public void setEnergy(int slot, int value) { energy[slot] = value; }
+
+    public int getEnergyPerMeter(int slot) { return energyPerMeter[slot]; }
+
+    public void setEnergyPerMeter(int slot, int value) { energyPerMeter[slot] = value; }
+
+    public int getMaxEnergy(int slot) { return maxEnergy[slot]; }
+
+    public void setMaxEnergy(int slot, int value) { maxEnergy[slot] = value; }
+
+    public double getSpeed(int slot) { return speed[slot]; }
+
+    public void setSpeed(int slot, double value) { speed[slot] = value; }
+
+    public boolean canMove(int slot) { return canMove[slot]; }
+
+    public void setCanMove(int slot, boolean value) { canMove[slot] = value; }
+
+    public int getTrackEnd(int slot) { return trackEnd[slot]; }
+
+    public void setTrackEnd(int slot, int value) { trackEnd[slot] = value; }
+
+    /**
+     * Checks if a participant runs on a straight track and can be moved with {@link #advanceStraight(int)}.
+     *
+     * @param slot The slot of the participant.
+     * @return true if the participant runs on a straight track, false otherwise.
+     */
+    public boolean isStraight(int slot) {
+        return trackEnd[slot] != NOT_STRAIGHT;
+    }
+
+    //_______________________________________________________Movement__________________________________________________
+
+    /**
+     * Moves a participant on a straight track one speed unit towards the east, working on the arrays only.
+     * This gives exactly the same result as calling {@code move} of an air animal, a water animal or an alligator
+     * with the point one speed unit ahead on the X axis:
+     * the participant stops at the end of its track, does not move without enough energy,
+     * and the energy is only updated if the new value is between 0 and the maximum energy.
+     * The step does not allocate.
+     *
+     * @param slot The slot of the participant.
+     * @return true if the participant moved, false otherwise.
+     */
+    public boolean advanceStraight(int slot) {
+        int currentX = x[slot];
+        double currentSpeed = speed[slot];
+        int dx = (int) (currentX + currentSpeed) - currentX;
+        double distance = Math.abs(dx);
+        double deltaX = currentSpeed * dx / distance;
+
+        // Stop moving if the participant has reached the end of the track
+        int end = trackEnd[slot];
+        if (currentX >= end || currentX + deltaX >= end) {
+            x[slot] = end;
+            canMove[slot] = false;
+            return false;
+        }
+
+        if (!canMove[slot] || dx == 0) {
+            return false; // Not allowed to move, or already at the target
+        }
+
+        // Check if there is enough energy to move to the new location
+        int currentEnergy = energy[slot];
+        if (currentEnergy == 0 || currentEnergy - (energyPerMeter[slot] * distance) <= 0) {
+            return false;
+        }
+
+        x[slot] = (int) (currentX + deltaX);
+        double moved = Math.abs(deltaX); // The step only has an X component
+        totalDistance[slot] += moved;
+
+        int newEnergy = (int) (currentEnergy - (energyPerMeter[slot] * moved));
+        if (newEnergy >= 0 && newEnergy <= maxEnergy[slot]) {
+            energy[slot] = newEnergy;
+        }
+        return true;
+    }
+}